@@ -0,0 +1,72 @@
+package de.plushnikov.intellij.plugin.action.config;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import de.plushnikov.intellij.plugin.lombokconfig.EffectiveConfigReport;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Exports effective lombok configuration of all source directories of the project, the report is computed in background
+ */
+public class LombokConfigReportAction extends AnAction {
+  private static final Logger LOG = Logger.getInstance(LombokConfigReportAction.class.getName());
+
+  private static final String TITLE = "Export Effective Lombok Configuration";
+
+  @Override
+  public void update(AnActionEvent e) {
+    e.getPresentation().setEnabled(null != getEventProject(e));
+  }
+
+  @Override
+  public void actionPerformed(AnActionEvent e) {
+    final Project project = getEventProject(e);
+    if (null == project) {
+      return;
+    }
+
+    final FileSaverDescriptor descriptor = new FileSaverDescriptor(TITLE, "Choose file for the report", "tsv");
+    final VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+        .save(project.getBaseDir(), "lombok-config-report.tsv");
+    if (null == fileWrapper) {
+      return;
+    }
+
+    final File outputFile = fileWrapper.getFile();
+    new Task.Backgroundable(project, "Computing effective lombok configuration", true) {
+      private IOException myException;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        final String report = EffectiveConfigReport.createReport(project, indicator);
+        try {
+          FileUtil.writeToFile(outputFile, report);
+        } catch (IOException ex) {
+          myException = ex;
+        }
+      }
+
+      @Override
+      public void onSuccess() {
+        if (null == myException) {
+          Messages.showInfoMessage(project, "Report written to " + outputFile.getPath(), TITLE);
+        } else {
+          LOG.warn("Writing of lombok configuration report failed", myException);
+          Messages.showErrorDialog(project, "Report could not be written: " + myException.getMessage(), TITLE);
+        }
+      }
+    }.queue();
+  }
+}
@@ -0,0 +1,30 @@
+package de.plushnikov.intellij.plugin.action.metrics;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.ui.Messages;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
+
+import java.awt.datatransfer.StringSelection;
+
+/**
+ * Dumps collected lombok plugin metrics to the log and to the clipboard
+ */
+public class LombokMetricsDumpAction extends AnAction {
+  private static final Logger LOG = Logger.getInstance(LombokMetricsDumpAction.class.getName());
+
+  @Override
+  public void update(AnActionEvent e) {
+    e.getPresentation().setEnabled(LombokMetrics.isEnabled());
+  }
+
+  @Override
+  public void actionPerformed(AnActionEvent e) {
+    final String report = LombokMetrics.createReport();
+    LOG.info("Lombok plugin metrics:\n" + report);
+    CopyPasteManager.getInstance().setContents(new StringSelection(report));
+    Messages.showInfoMessage(getEventProject(e), report, "Lombok Metrics (copied to clipboard)");
+  }
+}
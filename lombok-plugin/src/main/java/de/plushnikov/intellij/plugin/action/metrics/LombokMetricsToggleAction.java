@@ -0,0 +1,21 @@
+package de.plushnikov.intellij.plugin.action.metrics;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
+
+/**
+ * Enables or disables collection of lombok plugin metrics
+ */
+public class LombokMetricsToggleAction extends ToggleAction {
+
+  @Override
+  public boolean isSelected(AnActionEvent e) {
+    return LombokMetrics.isEnabled();
+  }
+
+  @Override
+  public void setSelected(AnActionEvent e, boolean state) {
+    LombokMetrics.setEnabled(state);
+  }
+}
@@ -234,7 +234,7 @@ import static com.intellij.psi.codeStyle.JavaCodeStyleSettings.SHORTEN_NAMES_ALW
 import static com.intellij.psi.util.PsiTypesUtil.getPsiClass;
 import static com.intellij.util.ObjectUtils.assertNotNull;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtendingMethods;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getType;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isApplicable;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isInExtensionScope;
 import static de.plushnikov.intellij.plugin.handler.FieldDefaultsUtil.isAccessible;
 import static de.plushnikov.intellij.plugin.util.PsiAnnotationUtil.isAnnotatedWith;
@@ -1545,8 +1545,7 @@ public class LombokCompletionContributor extends JavaCompletionContributor {
             boolean result = true;
             for (PsiMethod psiMethod : getExtendingMethods(containingClass)) {
                 if (psiMethod.getName().equals(method.getName())) {
-                    PsiType paramType = getType(psiMethod.getParameterList().getParameters()[0].getType(), psiMethod);
-                    if (paramType.isAssignableFrom(type) && isInExtensionScope(containingClass)) {
+                    if (isApplicable(psiMethod, type) && isInExtensionScope(containingClass)) {
                         return true;
                     }
                     result = false;
@@ -0,0 +1,34 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.codeInsight.navigation.actions.GotoDeclarationHandler;
+import com.intellij.openapi.actionSystem.DataContext;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.handler.PrimitiveExtensionMethodResolver;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Navigation from extension method calls on primitive receivers to the static method of the utility class
+ */
+public class LombokExtensionMethodGotoDeclarationHandler implements GotoDeclarationHandler {
+  @Nullable
+  @Override
+  public PsiElement[] getGotoDeclarationTargets(@Nullable PsiElement sourceElement, int offset, Editor editor) {
+    if (sourceElement == null) return null;
+
+    PsiReferenceExpression expression = PsiTreeUtil.getParentOfType(sourceElement, PsiReferenceExpression.class);
+    if (expression == null || expression.getReferenceNameElement() != sourceElement) return null;
+
+    PsiMethod method = PrimitiveExtensionMethodResolver.resolve(expression);
+    return method == null ? null : new PsiElement[]{method};
+  }
+
+  @Nullable
+  @Override
+  public String getActionText(DataContext context) {
+    return null;
+  }
+}
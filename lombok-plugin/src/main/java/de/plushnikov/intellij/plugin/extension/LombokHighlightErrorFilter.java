@@ -13,18 +13,17 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceExpression;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.search.searches.ReferencesSearch;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.Query;
-import com.siyeh.ig.psiutils.ClassUtils;
 import de.plushnikov.intellij.plugin.handler.LazyGetterHandler;
 import de.plushnikov.intellij.plugin.handler.OnXAnnotationHandler;
+import de.plushnikov.intellij.plugin.handler.PrimitiveExtensionMethodResolver;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.ReflectionUtil;
 import lombok.AccessLevel;
@@ -32,10 +31,7 @@ import lombok.Value;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import static de.plushnikov.intellij.plugin.codeInsight.completion.LombokCompletionContributor.LombokElementFilter.getCallType;
 import static com.siyeh.ig.psiutils.ClassUtils.getContainingClass;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtendingMethods;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getType;
 import static de.plushnikov.intellij.plugin.handler.FieldDefaultsUtil.isAccessible;
 import static de.plushnikov.intellij.plugin.util.PsiClassUtil.hasParent;
 
@@ -46,6 +42,15 @@ public class LombokHighlightErrorFilter implements HighlightInfoFilter {
 
   @Override
   public boolean accept(@NotNull HighlightInfo highlightInfo, @Nullable PsiFile file) {
+    final long start = LombokMetrics.start();
+    try {
+      return acceptIntern(highlightInfo, file);
+    } finally {
+      LombokMetrics.stop(LombokMetrics.HIGHLIGHT_FILTER, this, start, 0);
+    }
+  }
+
+  private boolean acceptIntern(@NotNull HighlightInfo highlightInfo, @Nullable PsiFile file) {
     if (file == null) return true;
     if (HighlightSeverity.WARNING.equals(highlightInfo.getSeverity()) && CodeInsightColors.NOT_USED_ELEMENT_ATTRIBUTES.equals(highlightInfo.type.getAttributesKey())) {
       return isUnusedFieldDefaultsField(highlightInfo, file);
@@ -67,7 +72,7 @@ public class LombokHighlightErrorFilter implements HighlightInfoFilter {
         return false;
       }
       if (HighlightInfoType.WRONG_REF.equals(highlightInfo.type)) {
-        return isUnresolvedMethodExtensionPrimitive(highlightInfo, file) && isInaccessibleFieldDefaultsField(highlightInfo, file);
+        return isUnresolvedExtensionMethodCall(highlightInfo, file) && isInaccessibleFieldDefaultsField(highlightInfo, file);
       }
     }
     return true;
@@ -165,24 +170,15 @@ public class LombokHighlightErrorFilter implements HighlightInfoFilter {
   }
 
   /**
-   * remove highlight error of extension method for primitive type
+   * remove highlight error of extension method for primitive type or with universal receiver, the call is resolved by {@link PrimitiveExtensionMethodResolver}
    */
-  private boolean isUnresolvedMethodExtensionPrimitive(@NotNull HighlightInfo highlightInfo, @NotNull PsiFile file) {
+  private boolean isUnresolvedExtensionMethodCall(@NotNull HighlightInfo highlightInfo, @NotNull PsiFile file) {
     PsiElement element = file.findElementAt(highlightInfo.getStartOffset());
     if (element == null) return true;
-    PsiClass containingClass = getContainingClass(element);
-    if (containingClass == null) return true;
     PsiReferenceExpression expression = PsiTreeUtil.getParentOfType(element, PsiReferenceExpression.class);
     if (expression == null) return true;
 
-    PsiType callType = getCallType(expression, containingClass);
-    if (!ClassUtils.isPrimitive(callType)) return true;
-
-    for (PsiMethod method : getExtendingMethods(containingClass)) {
-      if (!method.getName().equals(element.getText())) continue;
-      if (getType(method.getParameterList().getParameters()[0].getType(), method).isAssignableFrom(callType)) return false;                 // remove exception highlight
-    }
-    return true;
+    return PrimitiveExtensionMethodResolver.resolve(expression) == null;                 // remove exception highlight if resolved
   }
 
   private boolean uninitializedField(String description) {
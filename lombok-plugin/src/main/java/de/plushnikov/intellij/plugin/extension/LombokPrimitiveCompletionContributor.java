@@ -7,26 +7,19 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.completion.CompletionType;
 import com.intellij.codeInsight.completion.JavaMethodCallElement;
 import com.intellij.patterns.PsiJavaPatterns;
-import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiExpression;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.PsiType;
 import com.intellij.util.ProcessingContext;
-import lombok.experimental.ExtensionMethod;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
 
 import static com.intellij.psi.util.PsiTreeUtil.findChildrenOfType;
 import static com.intellij.psi.util.PsiTreeUtil.getParentOfType;
-import static com.siyeh.ig.psiutils.ClassUtils.getContainingClass;
-import static com.siyeh.ig.psiutils.ClassUtils.isPrimitive;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.createExtensionMethod;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getType;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isInExtensionScope;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtendingMethods;
-import static de.plushnikov.intellij.plugin.util.PsiAnnotationUtil.isAnnotatedWith;
+import static de.plushnikov.intellij.plugin.handler.PrimitiveExtensionMethodResolver.getExtensionMethods;
 
 
 /**
@@ -44,17 +37,11 @@ public class LombokPrimitiveCompletionContributor extends CompletionContributor
         if (!iterator.hasNext()) return;
 
         PsiType callType = iterator.next().getType();
-        if (callType == null || !isPrimitive(callType)) return;
+        if (callType == null || PsiType.VOID.equals(callType) || PsiType.NULL.equals(callType)) return;
 
-        PsiClass classCall = getContainingClass(parameters.getPosition());
-        if (classCall == null || !isAnnotatedWith(classCall, ExtensionMethod.class)) return;
-
-      // get methods for this type
-        for (PsiMethod psiMethod : getExtendingMethods(classCall)) {
-            PsiType paramType = getType(psiMethod.getParameterList().getParameters()[0].getType(), psiMethod);
-            if (paramType.isAssignableFrom(callType) && isInExtensionScope(classCall)) {
-              result.addElement(new JavaMethodCallElement(createExtensionMethod(psiMethod, null)));
-            }
+      // methods for primitive types and methods with universal receivers, other ones are augmented to the receiver class
+        for (PsiMethod psiMethod : getExtensionMethods(parameters.getPosition(), callType)) {
+          result.addElement(new JavaMethodCallElement(createExtensionMethod(psiMethod, null)));
         }
       }
     });
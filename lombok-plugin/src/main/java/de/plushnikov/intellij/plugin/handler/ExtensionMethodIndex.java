@@ -0,0 +1,321 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lang.java.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of classes annotated with @ExtensionMethod.
+ * Key is the qualified name of the annotated class, value contains names of utility classes from the annotation (as written in the source).
+ * <p>
+ * Everything is computed syntactically from lexer tokens. Receiver types are not indexed, as the type of an expression
+ * is not known syntactically, they are derived from the first parameters of the utility class methods by {@link ExtensionMethodRegistry}.
+ */
+public class ExtensionMethodIndex extends FileBasedIndexExtension<String, ExtensionMethodIndex.Scope> {
+  @NonNls
+  public static final ID<String, Scope> NAME = ID.create("LombokExtensionMethodIndex");
+
+  private static final String ANNOTATION_NAME = "ExtensionMethod";
+
+  /**
+   * Index data of one class annotated with @ExtensionMethod
+   */
+  public static final class Scope {
+    private final List<String> utilClassNames;
+
+    public Scope(@NotNull List<String> utilClassNames) {
+      this.utilClassNames = utilClassNames;
+    }
+
+    @NotNull
+    public List<String> getUtilClassNames() {
+      return utilClassNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      Scope that = (Scope) o;
+      return utilClassNames.equals(that.utilClassNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return utilClassNames.hashCode();
+    }
+  }
+
+  private static final class ClassFrame {
+    private final String qualifiedName;
+    private final int braceDepth;
+
+    private ClassFrame(String qualifiedName, int braceDepth) {
+      this.qualifiedName = qualifiedName;
+      this.braceDepth = braceDepth;
+    }
+  }
+
+  @NotNull
+  @Override
+  public ID<String, Scope> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Scope, FileContent> getIndexer() {
+    return new DataIndexer<String, Scope, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, Scope> map(@NotNull FileContent inputData) {
+        final CharSequence fileText = inputData.getContentAsText();
+        if (!containsAnnotationName(fileText)) {
+          return Collections.emptyMap();
+        }
+        return collectScopes(fileText);
+      }
+    };
+  }
+
+  private static boolean containsAnnotationName(@NotNull CharSequence fileText) {
+    return StringUtil.contains(fileText, ANNOTATION_NAME);
+  }
+
+  @NotNull
+  static Map<String, Scope> collectScopes(@NotNull CharSequence fileText) {
+    final Map<String, Scope> result = new HashMap<String, Scope>();
+
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(fileText);
+
+    final StringBuilder packageName = new StringBuilder();
+    final List<ClassFrame> classStack = new ArrayList<ClassFrame>();
+    boolean readPackage = false;
+    boolean readAnnotation = false;
+    boolean readClassName = false;
+    String lastIdentifier = null;
+    boolean pendingExtensionMethod = false;
+    List<String> pendingUtilClassNames = null;
+    StringBuilder utilClassName = null;
+    int annotationParenDepth = -1;
+    String pendingClassName = null;
+    Scope pendingScope = null;
+    int braceDepth = 0;
+    int parenDepth = 0;
+    IElementType previousTokenType = null;
+
+    IElementType tokenType;
+    while ((tokenType = lexer.getTokenType()) != null) {
+      if (!ElementType.JAVA_COMMENT_OR_WHITESPACE_BIT_SET.contains(tokenType)) {
+        final String tokenText = lexer.getTokenText();
+
+        if (readAnnotation && tokenType != JavaTokenType.IDENTIFIER && tokenType != JavaTokenType.DOT) {
+          // end of the (possibly qualified) annotation name
+          readAnnotation = false;
+          if (ANNOTATION_NAME.equals(lastIdentifier)) {
+            pendingExtensionMethod = true;
+            pendingUtilClassNames = new ArrayList<String>();
+            if (tokenType == JavaTokenType.LPARENTH) {
+              annotationParenDepth = parenDepth;
+            }
+          }
+        }
+
+        if (readPackage) {
+          if (tokenType == JavaTokenType.SEMICOLON) {
+            readPackage = false;
+          } else {
+            packageName.append(tokenText);
+          }
+        } else if (readClassName) {
+          if (tokenType == JavaTokenType.IDENTIFIER) {
+            final String outerName = classStack.isEmpty() ? packageName.toString() : classStack.get(classStack.size() - 1).qualifiedName;
+            pendingClassName = outerName.isEmpty() ? tokenText : outerName + "." + tokenText;
+            pendingScope = pendingExtensionMethod ? new Scope(pendingUtilClassNames) : null;
+            pendingExtensionMethod = false;
+            pendingUtilClassNames = null;
+          }
+          readClassName = false;
+        } else if (annotationParenDepth >= 0) {
+          // arguments of @ExtensionMethod: collect names of class literals
+          if (tokenType == JavaTokenType.LPARENTH) {
+            parenDepth++;
+          } else if (tokenType == JavaTokenType.RPARENTH) {
+            parenDepth--;
+            if (parenDepth == annotationParenDepth) {
+              annotationParenDepth = -1;
+            }
+          } else if (tokenType == JavaTokenType.IDENTIFIER) {
+            utilClassName = null == utilClassName ? new StringBuilder(tokenText) : utilClassName.append(tokenText);
+          } else if (tokenType == JavaTokenType.DOT) {
+            if (null != utilClassName) {
+              utilClassName.append('.');
+            }
+          } else if (tokenType == JavaTokenType.CLASS_KEYWORD) {
+            if (null != utilClassName && utilClassName.length() > 1) {
+              pendingUtilClassNames.add(utilClassName.substring(0, utilClassName.length() - 1));
+            }
+            utilClassName = null;
+          } else {
+            utilClassName = null;
+          }
+        } else if (tokenType == JavaTokenType.AT && parenDepth == 0) {
+          readAnnotation = true;
+          lastIdentifier = null;
+        } else if (readAnnotation) {
+          if (tokenType == JavaTokenType.IDENTIFIER) {
+            lastIdentifier = tokenText;
+          }
+        } else if (tokenType == JavaTokenType.PACKAGE_KEYWORD && braceDepth == 0) {
+          readPackage = true;
+        } else if (tokenType == JavaTokenType.LPARENTH) {
+          parenDepth++;
+        } else if (tokenType == JavaTokenType.RPARENTH) {
+          parenDepth = Math.max(0, parenDepth - 1);
+        } else if (parenDepth == 0) {
+          if (tokenType == JavaTokenType.LBRACE) {
+            braceDepth++;
+            if (null != pendingClassName) {
+              classStack.add(new ClassFrame(pendingClassName, braceDepth));
+              if (null != pendingScope) {
+                result.put(pendingClassName, pendingScope);
+              }
+              pendingClassName = null;
+              pendingScope = null;
+            }
+          } else if (tokenType == JavaTokenType.RBRACE) {
+            if (!classStack.isEmpty() && classStack.get(classStack.size() - 1).braceDepth == braceDepth) {
+              classStack.remove(classStack.size() - 1);
+            }
+            braceDepth = Math.max(0, braceDepth - 1);
+          } else if (previousTokenType != JavaTokenType.DOT &&
+              (tokenType == JavaTokenType.CLASS_KEYWORD || tokenType == JavaTokenType.INTERFACE_KEYWORD || tokenType == JavaTokenType.ENUM_KEYWORD)) {
+            readClassName = true;
+          }
+        }
+        previousTokenType = tokenType;
+      }
+      lexer.advance();
+    }
+    return result;
+  }
+
+  /**
+   * @return index data of psiClass, or null if the class is not indexed (not physical or not annotated)
+   */
+  @Nullable
+  public static Scope getScope(@NotNull PsiClass psiClass) {
+    final PsiFile psiFile = psiClass.getContainingFile();
+    final VirtualFile virtualFile = null == psiFile ? null : psiFile.getVirtualFile();
+    final String qualifiedName = psiClass.getQualifiedName();
+    if (null == virtualFile || null == qualifiedName || !psiFile.isPhysical()) {
+      return null;
+    }
+
+    final List<Scope> values = FileBasedIndex.getInstance().getValues(NAME, qualifiedName,
+        GlobalSearchScope.fileScope(psiClass.getProject(), virtualFile));
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  /**
+   * @return qualified names of all indexed classes annotated with @ExtensionMethod in the project
+   */
+  @NotNull
+  public static Set<String> collectAllScopeNames(@NotNull Project project) {
+    final Set<String> result = new HashSet<String>();
+    final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+    final GlobalSearchScope searchScope = GlobalSearchScope.allScope(project);
+    for (String scopeName : fileBasedIndex.getAllKeys(NAME, project)) {
+      // keys of deleted or changed files can be still returned, values are always actual
+      if (!fileBasedIndex.getValues(NAME, scopeName, searchScope).isEmpty()) {
+        result.add(scopeName);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<Scope> getValueExternalizer() {
+    return new DataExternalizer<Scope>() {
+      @Override
+      public void save(@NotNull DataOutput out, Scope value) throws IOException {
+        out.writeInt(value.getUtilClassNames().size());
+        for (String utilClassName : value.getUtilClassNames()) {
+          out.writeUTF(utilClassName);
+        }
+      }
+
+      @Override
+      public Scope read(@NotNull DataInput in) throws IOException {
+        final int utilClassCount = in.readInt();
+        final List<String> utilClassNames = new ArrayList<String>(utilClassCount);
+        for (int i = 0; i < utilClassCount; i++) {
+          utilClassNames.add(in.readUTF());
+        }
+        return new Scope(utilClassNames);
+      }
+    };
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+}
@@ -0,0 +1,226 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.ProjectScope;
+import com.intellij.psi.search.searches.ClassInheritorsSearch;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Project wide registry of classes annotated with @ExtensionMethod (scopes) and of types their extension methods apply to.
+ * <p>
+ * Scopes are read from {@link ExtensionMethodIndex} on demand and cached until the next java structure change,
+ * so adding, changing, renaming or removing of scopes is visible without waiting for augmentation of the annotated classes.
+ * A class is extensible if it or one of its super types is the erased first parameter type of a method of a utility class,
+ * independent of the places where the methods are called. Universal receivers (Object, Cloneable, Serializable) are skipped,
+ * they would make every class extensible, calls of such methods are resolved at the call site instead.
+ * <p>
+ * Names of all extensible classes (receivers and their inheritors) are precomputed together with the scopes,
+ * so all other classes are rejected by one lookup without resolving of their super types.
+ * Inheritors in libraries change only with project roots and are cached separately from inheritors in the project.
+ */
+public class ExtensionMethodRegistry {
+  private static final Key<CachedValue<Snapshot>> SNAPSHOT_KEY = Key.create("LombokExtensionMethodScopes");
+  private static final Key<CachedValue<ConcurrentMap<String, Set<String>>>> LIBRARY_INHERITORS_KEY = Key.create("LombokExtensionMethodLibraryInheritors");
+  private static final Snapshot EMPTY_SNAPSHOT = new Snapshot(Collections.<String, Set<String>>emptyMap(), Collections.<String, Set<String>>emptyMap());
+
+  private final Project myProject;
+
+  private static final class Snapshot {
+    // key - qualified name of class with @ExtensionMethod, value - erased first parameter types of methods of its utility classes
+    private final Map<String, Set<String>> scopes;
+    // key - qualified name of extensible class, value - qualified names of classes with @ExtensionMethod applicable to it
+    private final Map<String, Set<String>> extensibleClasses;
+
+    private Snapshot(@NotNull Map<String, Set<String>> scopes, @NotNull Map<String, Set<String>> extensibleClasses) {
+      this.scopes = Collections.unmodifiableMap(scopes);
+      this.extensibleClasses = Collections.unmodifiableMap(extensibleClasses);
+    }
+  }
+
+  public static ExtensionMethodRegistry getInstance(@NotNull Project project) {
+    return ServiceManager.getService(project, ExtensionMethodRegistry.class);
+  }
+
+  public ExtensionMethodRegistry(@NotNull Project project) {
+    myProject = project;
+  }
+
+  /**
+   * @return qualified names of all classes annotated with @ExtensionMethod
+   */
+  @NotNull
+  public Set<String> getScopeNames() {
+    return getSnapshot().scopes.keySet();
+  }
+
+  /**
+   * @return true if methods of any utility class can be applied to psiClass
+   */
+  public boolean isExtensible(@NotNull PsiClass psiClass) {
+    final String qualifiedName = psiClass.getQualifiedName();
+    return null != qualifiedName && isExtensible(qualifiedName);
+  }
+
+  /**
+   * Answered from the precomputed names only, super types of the class are not resolved
+   *
+   * @return true if methods of any utility class can be applied to the class with the qualified name
+   */
+  public boolean isExtensible(@NotNull String qualifiedName) {
+    return getSnapshot().extensibleClasses.containsKey(qualifiedName);
+  }
+
+  /**
+   * @return qualified names of classes annotated with @ExtensionMethod, whose utility classes have methods applicable to psiClass
+   */
+  @NotNull
+  public Set<String> getExtensionScopes(@NotNull PsiClass psiClass) {
+    final String qualifiedName = psiClass.getQualifiedName();
+    final Set<String> result = null == qualifiedName ? null : getSnapshot().extensibleClasses.get(qualifiedName);
+    return null == result ? Collections.<String>emptySet() : result;
+  }
+
+  @NotNull
+  private Snapshot getSnapshot() {
+    if (DumbService.isDumb(myProject)) {
+      return EMPTY_SNAPSHOT;
+    }
+    // methods of utility classes are augmented themselves, which asks the registry again
+    final Snapshot snapshot = RecursionManager.doPreventingRecursion(this, false, new Computable<Snapshot>() {
+      @Override
+      public Snapshot compute() {
+        return CachedValuesManager.getManager(myProject).getCachedValue(myProject, SNAPSHOT_KEY, new CachedValueProvider<Snapshot>() {
+          @Nullable
+          @Override
+          public Result<Snapshot> compute() {
+            return Result.create(computeSnapshot(),
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT, ProjectRootManager.getInstance(myProject));
+          }
+        }, false);
+      }
+    });
+    return null == snapshot ? EMPTY_SNAPSHOT : snapshot;
+  }
+
+  @NotNull
+  private Snapshot computeSnapshot() {
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(myProject);
+    final GlobalSearchScope searchScope = GlobalSearchScope.allScope(myProject);
+
+    final Map<String, Set<String>> scopes = new HashMap<String, Set<String>>();
+    for (String scopeName : ExtensionMethodIndex.collectAllScopeNames(myProject)) {
+      final Set<String> typeNames = new HashSet<String>();
+      for (PsiClass scopeClass : facade.findClasses(scopeName, searchScope)) {
+        for (PsiClass utilClass : ExtensionMethodUtil.getUtilClass(scopeClass)) {
+          for (String typeName : ExtensionMethodUtil.getExtensionMethodTable(utilClass).keySet()) {
+            if (!ExtensionMethodUtil.isUniversalReceiverType(typeName)) {
+              typeNames.add(typeName);
+            }
+          }
+        }
+      }
+      scopes.put(scopeName, Collections.unmodifiableSet(typeNames));
+    }
+
+    final Map<String, Set<String>> extensibleClasses = new HashMap<String, Set<String>>();
+    final Map<String, Set<String>> inheritorNames = new HashMap<String, Set<String>>();
+    for (Map.Entry<String, Set<String>> entry : scopes.entrySet()) {
+      for (String typeName : entry.getValue()) {
+        if (ExtensionMethodUtil.isArrayReceiverType(typeName)) {
+          addScope(extensibleClasses, ExtensionMethodUtil.ARRAY_PSI_CLASS_NAME, entry.getKey());
+          continue;
+        }
+
+        Set<String> classNames = inheritorNames.get(typeName);
+        if (null == classNames) {
+          classNames = collectExtensibleClassNames(typeName);
+          inheritorNames.put(typeName, classNames);
+        }
+        for (String className : classNames) {
+          addScope(extensibleClasses, className, entry.getKey());
+        }
+      }
+    }
+    return new Snapshot(scopes, extensibleClasses);
+  }
+
+  private static void addScope(@NotNull Map<String, Set<String>> extensibleClasses, @NotNull String className, @NotNull String scopeName) {
+    Set<String> scopeNames = extensibleClasses.get(className);
+    if (null == scopeNames) {
+      scopeNames = new HashSet<String>();
+      extensibleClasses.put(className, scopeNames);
+    }
+    scopeNames.add(scopeName);
+  }
+
+  /**
+   * @return qualified names of the receiver type and all its inheritors in the project and in libraries
+   */
+  @NotNull
+  private Set<String> collectExtensibleClassNames(@NotNull String typeName) {
+    final Set<String> result = new HashSet<String>();
+    result.add(typeName);
+    result.addAll(getLibraryInheritorNames(typeName));
+    collectInheritorNames(typeName, GlobalSearchScope.projectScope(myProject), result);
+    return result;
+  }
+
+  @NotNull
+  private Set<String> getLibraryInheritorNames(@NotNull String typeName) {
+    final ConcurrentMap<String, Set<String>> libraryInheritors = CachedValuesManager.getManager(myProject).getCachedValue(myProject, LIBRARY_INHERITORS_KEY,
+        new CachedValueProvider<ConcurrentMap<String, Set<String>>>() {
+          @Nullable
+          @Override
+          public Result<ConcurrentMap<String, Set<String>>> compute() {
+            return Result.<ConcurrentMap<String, Set<String>>>create(new ConcurrentHashMap<String, Set<String>>(), ProjectRootManager.getInstance(myProject));
+          }
+        }, false);
+
+    Set<String> result = libraryInheritors.get(typeName);
+    if (null == result) {
+      final Set<String> inheritorNames = new HashSet<String>();
+      collectInheritorNames(typeName, ProjectScope.getLibrariesScope(myProject), inheritorNames);
+      result = Collections.unmodifiableSet(inheritorNames);
+      libraryInheritors.put(typeName, result);
+    }
+    return result;
+  }
+
+  private void collectInheritorNames(@NotNull String typeName, @NotNull GlobalSearchScope searchScope, @NotNull final Set<String> result) {
+    for (PsiClass receiverClass : JavaPsiFacade.getInstance(myProject).findClasses(typeName, GlobalSearchScope.allScope(myProject))) {
+      ClassInheritorsSearch.search(receiverClass, searchScope, true).forEach(new Processor<PsiClass>() {
+        @Override
+        public boolean process(PsiClass inheritor) {
+          final String inheritorName = inheritor.getQualifiedName();
+          if (null != inheritorName) {
+            result.add(inheritorName);
+          }
+          return true;
+        }
+      });
+    }
+  }
+}
@@ -1,21 +1,25 @@
 package de.plushnikov.intellij.plugin.handler;
 
+import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiLiteralExpression;
-import com.intellij.psi.PsiLocalVariable;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiResolveHelper;
+import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import lombok.experimental.ExtensionMethod;
@@ -23,12 +27,16 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static de.plushnikov.intellij.plugin.util.PsiAnnotationUtil.findAnnotation;
 import static de.plushnikov.intellij.plugin.util.PsiAnnotationUtil.getAnnotationValues;
@@ -39,16 +47,28 @@ import static de.plushnikov.intellij.plugin.util.PsiAnnotationUtil.getAnnotation
  * @since 1.0.26
  */
 final public class ExtensionMethodUtil {
+  public static final String ARRAY_PSI_CLASS_NAME = "_Dummy_.__Array__";
+
+  private static final Set<String> UNIVERSAL_RECEIVER_TYPE_NAMES = new HashSet<String>(Arrays.asList(
+      CommonClassNames.JAVA_LANG_OBJECT, CommonClassNames.JAVA_LANG_CLONEABLE, CommonClassNames.JAVA_IO_SERIALIZABLE));
+
   /**
-   * key - qualifier name class with @ExtensionMethod
-   * value - set of qualifier names of extensible classes
+   * @return qualified names of all classes annotated with @ExtensionMethod
    */
-  public static final Map<String, Set<String>> EXTENSION_CLASSES = new HashMap<String, Set<String>>();
-  public static final String ARRAY_PSI_CLASS_NAME = "_Dummy_.__Array__";
+  @NotNull
+  public static Set<String> getScopeNames(@NotNull PsiElement context) {
+    return ExtensionMethodRegistry.getInstance(context.getProject()).getScopeNames();
+  }
 
+  /**
+   * @return true if the class or one of its outer classes is annotated with @ExtensionMethod
+   */
   public static boolean isInExtensionScope(@NotNull PsiClass scope) {
-    for (String extensionClassScope : EXTENSION_CLASSES.keySet()) {
-      if (EXTENSION_CLASSES.get(extensionClassScope).contains(scope.getQualifiedName())) return true;
+    final Set<String> scopeNames = getScopeNames(scope);
+    if (scopeNames.isEmpty()) return false;
+
+    for (PsiClass psiClass = scope; psiClass != null; psiClass = psiClass.getContainingClass()) {
+      if (scopeNames.contains(psiClass.getQualifiedName())) return true;
     }
     return false;
   }
@@ -56,7 +76,7 @@ final public class ExtensionMethodUtil {
   @NotNull
   public static List<PsiMethod> getExtendingMethods(@NotNull PsiClass currentClass) {
     Set<PsiClass> utilClasses = new HashSet<PsiClass>();
-    for (String scope : ExtensionMethodUtil.EXTENSION_CLASSES.keySet()) {
+    for (String scope : getScopeNames(currentClass)) {
       PsiClass psiClass = findClass(currentClass, scope);
       if (psiClass != null) {
         utilClasses.addAll(getUtilClass(psiClass));
@@ -75,26 +95,31 @@ final public class ExtensionMethodUtil {
     return list;
   }
 
+  /**
+   * @return qualified names of classes annotated with @ExtensionMethod, whose utility classes have methods applicable to extensionClass
+   */
   @NotNull
   public static Set<String> getExtensionScope(@NotNull PsiClass extensionClass) {
-    Set<String> scopes = new HashSet<String>();
-    if (extensionClass.getQualifiedName() == null) return scopes;
-    for (String scope : EXTENSION_CLASSES.keySet()) {
-      if (extensionClass.getQualifiedName().equals(ARRAY_PSI_CLASS_NAME)) {
-        for (String extension : EXTENSION_CLASSES.get(scope)) {
-          if (!extension.endsWith("[]")) continue;
-          scopes.add(scope);
-          break;
-        }
-      } else if (EXTENSION_CLASSES.get(scope).contains(extensionClass.getQualifiedName())) {
-        scopes.add(scope);
-      }
-    }
-    return scopes;
+    return ExtensionMethodRegistry.getInstance(extensionClass.getProject()).getExtensionScopes(extensionClass);
   }
 
   public static boolean isExtensible(@NotNull PsiClass psiClass) {
-    return !getExtensionScope(psiClass).isEmpty();
+    return ExtensionMethodRegistry.getInstance(psiClass.getProject()).isExtensible(psiClass);
+  }
+
+  /**
+   * Arrays get methods taking arrays by augmentation, methods taking super types of all arrays are universal
+   */
+  public static boolean isArrayReceiverType(@NotNull String erasedTypeName) {
+    return erasedTypeName.endsWith("[]");
+  }
+
+  /**
+   * Methods taking Object, Cloneable, Serializable or a type variable erased to one of them apply to (almost) every class.
+   * They are not augmented, calls of them are resolved by {@link PrimitiveExtensionMethodResolver} at the call site
+   */
+  public static boolean isUniversalReceiverType(@NotNull String erasedTypeName) {
+    return UNIVERSAL_RECEIVER_TYPE_NAMES.contains(erasedTypeName);
   }
 
   @Nullable
@@ -105,18 +130,106 @@ final public class ExtensionMethodUtil {
   }
 
   /**
-   * For one parameter method
-   * Get true type (Example: <T extends Comparable<? super T>> T[] then return Comparable<? super T>[])
+   * Table of extension method candidates of the utility class: key - erased type of the first parameter, value - public static methods.
+   * Computed once and cached until the utility class changes
+   */
+  @NotNull
+  public static Map<String, List<PsiMethod>> getExtensionMethodTable(@NotNull final PsiClass utilClass) {
+    return CachedValuesManager.getCachedValue(utilClass, new CachedValueProvider<Map<String, List<PsiMethod>>>() {
+      @Nullable
+      @Override
+      public Result<Map<String, List<PsiMethod>>> compute() {
+        return Result.create(buildExtensionMethodTable(utilClass), utilClass);
+      }
+    });
+  }
+
+  @NotNull
+  private static Map<String, List<PsiMethod>> buildExtensionMethodTable(@NotNull PsiClass utilClass) {
+    Map<String, List<PsiMethod>> table = new LinkedHashMap<String, List<PsiMethod>>();
+    for (PsiMethod psiMethod : utilClass.getAllMethods()) {
+      PsiParameter[] parameters = psiMethod.getParameterList().getParameters();
+      if (parameters.length == 0) continue;
+      if (!psiMethod.hasModifierProperty(PsiModifier.PUBLIC) || !psiMethod.hasModifierProperty(PsiModifier.STATIC) || psiMethod.hasModifierProperty(PsiModifier.ABSTRACT)) continue;
+
+      String key = TypeConversionUtil.erasure(parameters[0].getType()).getCanonicalText();
+      List<PsiMethod> methods = table.get(key);
+      if (methods == null) {
+        methods = new ArrayList<PsiMethod>();
+        table.put(key, methods);
+      }
+      methods.add(psiMethod);
+    }
+    return table;
+  }
+
+  /**
+   * Qualified names of the receiver class and all its super classes and interfaces, starting with the receiver itself
    */
   @NotNull
-  public static PsiType getType(@NotNull PsiType type, @NotNull PsiMethod psiMethod) {
-    PsiTypeParameter[] typeParameters = psiMethod.getTypeParameterList().getTypeParameters();
-    if (typeParameters.length == 0) return type;
-    String text = typeParameters[0].getText();
-    if (text.contains("extends")) {
-      return TypeConversionUtil.erasure(type.getSuperTypes()[0]);           // todo hard spike (erasure generic type) mb change something  --SS
+  public static Set<String> getReceiverTypeNames(@NotNull PsiClass receiverClass) {
+    Set<PsiClass> superClasses = new LinkedHashSet<PsiClass>();
+    InheritanceUtil.getSuperClasses(receiverClass, superClasses, true);
+
+    Set<String> result = new LinkedHashSet<String>();
+    result.add(receiverClass.getQualifiedName());
+    for (PsiClass superClass : superClasses) {
+      result.add(superClass.getQualifiedName());
     }
-    return type;
+    result.add(CommonClassNames.JAVA_LANG_OBJECT);
+    return result;
+  }
+
+  /**
+   * Checks whether the static method can be called as extension method on the receiver type.
+   * Type parameters of the method are inferred from the receiver and checked against their bounds,
+   * so {@code <T extends Comparable<? super T>> void sort(T[] array)} is applicable to {@code String[]} but not to {@code Object[]}.
+   * Results are memoised per method and receiver type until the next java structure change
+   */
+  public static boolean isApplicable(@NotNull final PsiMethod method, @NotNull PsiType receiverType) {
+    final ConcurrentMap<String, Boolean> applicability = CachedValuesManager.getCachedValue(method, new CachedValueProvider<ConcurrentMap<String, Boolean>>() {
+      @Nullable
+      @Override
+      public Result<ConcurrentMap<String, Boolean>> compute() {
+        return Result.<ConcurrentMap<String, Boolean>>create(new ConcurrentHashMap<String, Boolean>(), PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT);
+      }
+    });
+
+    final String receiverTypeText = receiverType.getCanonicalText();
+    Boolean result = applicability.get(receiverTypeText);
+    if (result == null) {
+      result = isApplicableIntern(method, receiverType);
+      applicability.put(receiverTypeText, result);
+    }
+    return result;
+  }
+
+  private static boolean isApplicableIntern(@NotNull PsiMethod method, @NotNull PsiType receiverType) {
+    PsiParameter[] parameters = method.getParameterList().getParameters();
+    if (parameters.length == 0) return false;
+
+    PsiType parameterType = parameters[0].getType();
+    PsiTypeParameter[] typeParameters = method.getTypeParameters();
+    if (typeParameters.length == 0) return TypeConversionUtil.isAssignable(parameterType, receiverType);
+
+    PsiResolveHelper resolveHelper = JavaPsiFacade.getInstance(method.getProject()).getResolveHelper();
+    PsiSubstitutor substitutor = resolveHelper.inferTypeArguments(typeParameters, new PsiType[]{parameterType}, new PsiType[]{receiverType}, PsiUtil.getLanguageLevel(method));
+    for (PsiTypeParameter typeParameter : typeParameters) {
+      if (substitutor.substitute(typeParameter) == null) {
+        substitutor = substitutor.put(typeParameter, TypeConversionUtil.typeParameterErasure(typeParameter));     // not inferable from receiver
+      }
+    }
+
+    for (PsiTypeParameter typeParameter : typeParameters) {
+      PsiType inferredType = substitutor.substitute(typeParameter);
+      for (PsiClassType bound : typeParameter.getExtendsListTypes()) {
+        PsiType substitutedBound = substitutor.substitute(bound);
+        if (substitutedBound != null && inferredType != null && !TypeConversionUtil.isAssignable(substitutedBound, inferredType)) return false;
+      }
+    }
+
+    PsiType substitutedType = substitutor.substitute(parameterType);
+    return substitutedType != null && TypeConversionUtil.isAssignable(substitutedType, receiverType);
   }
 
   public static boolean hasSimilarExtendedMethod(@NotNull Collection<PsiMethod> classMethods, @NotNull PsiMethod method) {
@@ -143,6 +256,16 @@ final public class ExtensionMethodUtil {
   @NotNull
   public static List<PsiClass> getUtilClass(@NotNull PsiClass psiClass) {
     List<PsiClass> utilClasses = new ArrayList<PsiClass>();
+    ExtensionMethodIndex.Scope scope = ExtensionMethodIndex.getScope(psiClass);
+    if (scope != null) {
+      PsiResolveHelper resolveHelper = JavaPsiFacade.getInstance(psiClass.getProject()).getResolveHelper();
+      for (String utilClassName : scope.getUtilClassNames()) {
+        PsiClass aClass = resolveHelper.resolveReferencedClass(utilClassName, psiClass);
+        if (aClass != null) utilClasses.add(aClass);
+      }
+      return utilClasses;
+    }
+
     PsiAnnotation annotation = findAnnotation(psiClass, ExtensionMethod.class);
     if (annotation == null) return utilClasses;
 
@@ -167,50 +290,4 @@ final public class ExtensionMethodUtil {
 
     return newMethod;
   }
-
-  @NotNull
-  public static Set<String> getTypeElements(@NotNull PsiMethod method) {
-    Set<String> set = new HashSet<String>();
-    PsiElement codeBlock = null;
-    for (PsiElement psiElement : method.getChildren()) {
-      if (psiElement instanceof PsiCodeBlock) {
-        codeBlock = psiElement;
-      }
-    }
-    if (codeBlock != null) {
-      fillListReference(codeBlock, set);
-    }
-
-    return set;
-  }
-
-  @NotNull
-  public static Set<String> fillListReference(@NotNull PsiElement parent, @NotNull Set<String> set) {
-    for (PsiElement child : parent.getChildren()) {
-      if (child instanceof PsiLocalVariable) {
-        set.add(((PsiLocalVariable) child).getType().getCanonicalText());
-      } if (child instanceof PsiLiteralExpression) {
-        PsiType type = ((PsiLiteralExpression) child).getType();
-
-        if (type != null) {
-          set.add(type.getCanonicalText());
-        }
-      } else if (child.getReference() == null) {
-        fillListReference(child, set);
-      } else {
-        PsiElement element = ((PsiReference) child).resolve();
-
-        if (element instanceof PsiField) {
-          set.add(((PsiField) element).getType().getCanonicalText());
-        } else if (element instanceof PsiMethod) {
-          PsiType type = ((PsiMethod) element).getReturnType();
-          if (type != null) {
-            set.add(type.getCanonicalText());
-          }
-        }
-      }
-    }
-
-    return set;
-  }
 }
@@ -0,0 +1,224 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiEllipsisType;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.PsiResolveHelper;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtensionMethodTable;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getReceiverTypeNames;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getUtilClass;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.hasSimilarExtendedMethod;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isApplicable;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isUniversalReceiverType;
+
+/**
+ * Resolves extension method calls, which are not covered by augmentation.
+ * Classes and arrays (as {@link ExtensionMethodUtil#ARRAY_PSI_CLASS_NAME}) get extension methods by augmentation,
+ * primitive types have no class to augment, and methods with universal receivers (Object, Cloneable, Serializable)
+ * would have to be augmented to every class. Such calls are resolved here against the utility classes
+ * of @ExtensionMethod annotations of the enclosing classes. Result is cached per reference expression.
+ */
+final public class PrimitiveExtensionMethodResolver {
+  private PrimitiveExtensionMethodResolver() {
+  }
+
+  /**
+   * @return static method of utility class called as extension method on primitive receiver or with universal receiver or null
+   */
+  @Nullable
+  public static PsiMethod resolve(@NotNull final PsiReferenceExpression expression) {
+    if (null == getReceiverType(expression)) return null;
+
+    return CachedValuesManager.getCachedValue(expression, new CachedValueProvider<PsiMethod>() {
+      @Nullable
+      @Override
+      public Result<PsiMethod> compute() {
+        return Result.create(resolveIntern(expression), PsiModificationTracker.MODIFICATION_COUNT);
+      }
+    });
+  }
+
+  @Nullable
+  private static PsiMethod resolveIntern(@NotNull PsiReferenceExpression expression) {
+    final PsiType receiverType = getReceiverType(expression);
+    final String methodName = expression.getReferenceName();
+    if (receiverType == null || methodName == null || !(expression.getParent() instanceof PsiMethodCallExpression)) return null;
+    // methods of the receiver class itself (declared or augmented) win over universal extension methods
+    if (!(receiverType instanceof PsiPrimitiveType) && null != expression.resolve()) return null;
+
+    final PsiType[] argumentTypes = ((PsiMethodCallExpression) expression.getParent()).getArgumentList().getExpressionTypes();
+    PsiMethod result = null;
+    for (PsiMethod psiMethod : getExtensionMethods(expression, receiverType)) {
+      if (!methodName.equals(psiMethod.getName()) || !isApplicableToArguments(psiMethod, receiverType, argumentTypes)) continue;
+
+      if (null == result || isMoreSpecific(psiMethod, result)) {
+        result = psiMethod;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks arguments of the call against parameters of the static method, the receiver is passed as the first argument.
+   * Type parameters are inferred from the receiver and all arguments, arguments of unknown type are accepted
+   */
+  private static boolean isApplicableToArguments(@NotNull PsiMethod method, @NotNull PsiType receiverType, @NotNull PsiType[] argumentTypes) {
+    final PsiParameter[] parameters = method.getParameterList().getParameters();
+    final boolean isVarArgs = method.isVarArgs();
+    if (isVarArgs ? argumentTypes.length < parameters.length - 2 : argumentTypes.length != parameters.length - 1) return false;
+
+    final List<PsiType> parameterTypes = new ArrayList<PsiType>();
+    final List<PsiType> callTypes = new ArrayList<PsiType>();
+    parameterTypes.add(parameters[0].getType());
+    callTypes.add(receiverType);
+    for (int i = 0; i < argumentTypes.length; i++) {
+      if (null != argumentTypes[i]) {
+        parameterTypes.add(getParameterType(parameters, i + 1, isVarArgs, argumentTypes));
+        callTypes.add(argumentTypes[i]);
+      }
+    }
+
+    PsiSubstitutor substitutor = PsiSubstitutor.EMPTY;
+    final PsiTypeParameter[] typeParameters = method.getTypeParameters();
+    if (typeParameters.length > 0) {
+      final PsiResolveHelper resolveHelper = JavaPsiFacade.getInstance(method.getProject()).getResolveHelper();
+      substitutor = resolveHelper.inferTypeArguments(typeParameters, parameterTypes.toArray(new PsiType[parameterTypes.size()]),
+          callTypes.toArray(new PsiType[callTypes.size()]), PsiUtil.getLanguageLevel(method));
+      for (PsiTypeParameter typeParameter : typeParameters) {
+        if (substitutor.substitute(typeParameter) == null) {
+          substitutor = substitutor.put(typeParameter, TypeConversionUtil.typeParameterErasure(typeParameter));     // not inferable from arguments
+        }
+      }
+    }
+
+    for (int i = 0; i < parameterTypes.size(); i++) {
+      final PsiType substitutedType = substitutor.substitute(parameterTypes.get(i));
+      if (null == substitutedType || !TypeConversionUtil.isAssignable(substitutedType, callTypes.get(i))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return type of the parameter for the argument with index (counting the receiver as 0), with expanding of varargs
+   */
+  @NotNull
+  private static PsiType getParameterType(@NotNull PsiParameter[] parameters, int index, boolean isVarArgs, @NotNull PsiType[] argumentTypes) {
+    final int lastIndex = parameters.length - 1;
+    if (!isVarArgs || index < lastIndex) return parameters[index].getType();
+
+    final PsiType lastType = parameters[lastIndex].getType();
+    if (!(lastType instanceof PsiEllipsisType)) return lastType;
+
+    final PsiEllipsisType ellipsisType = (PsiEllipsisType) lastType;
+    // an array can be passed directly as the only vararg argument
+    final PsiType argumentType = argumentTypes[index - 1];
+    if (argumentTypes.length == lastIndex && null != argumentType && TypeConversionUtil.isAssignable(ellipsisType.toArrayType(), argumentType)) {
+      return ellipsisType.toArrayType();
+    }
+    return ellipsisType.getComponentType();
+  }
+
+  /**
+   * Method is more specific than other one, if all its erased parameter types (without the receiver) are assignable to the parameters of the other
+   */
+  private static boolean isMoreSpecific(@NotNull PsiMethod method, @NotNull PsiMethod otherMethod) {
+    final PsiParameter[] parameters = method.getParameterList().getParameters();
+    final PsiParameter[] otherParameters = otherMethod.getParameterList().getParameters();
+    final int parameterCount = Math.min(parameters.length, otherParameters.length);
+    for (int i = 1; i < parameterCount; i++) {
+      if (!TypeConversionUtil.isAssignable(TypeConversionUtil.erasure(otherParameters[i].getType()), TypeConversionUtil.erasure(parameters[i].getType()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return type of the qualifier, if it is a primitive, class or array type, otherwise null
+   */
+  @Nullable
+  private static PsiType getReceiverType(@NotNull PsiReferenceExpression expression) {
+    final PsiExpression qualifier = expression.getQualifierExpression();
+    if (qualifier == null) return null;
+
+    final PsiType type = qualifier.getType();
+    if (type instanceof PsiPrimitiveType) {
+      return PsiType.VOID.equals(type) || PsiType.NULL.equals(type) ? null : type;
+    }
+    return type instanceof PsiClassType || type instanceof PsiArrayType ? type : null;
+  }
+
+  /**
+   * @return static methods of utility classes in scope of place, which can be called as extension methods on the receiver:
+   * all applicable methods for primitive receivers and only methods with universal receivers for class and array types
+   */
+  @NotNull
+  public static List<PsiMethod> getExtensionMethods(@NotNull PsiElement place, @NotNull PsiType receiverType) {
+    final List<PsiMethod> result = new ArrayList<PsiMethod>();
+    final boolean isPrimitive = receiverType instanceof PsiPrimitiveType;
+
+    final PsiClassType boxedType = isPrimitive ? ((PsiPrimitiveType) receiverType).getBoxedType(place) : null;
+    final PsiClass boxedClass = boxedType == null ? null : boxedType.resolve();
+    final Set<String> boxedTypeNames = boxedClass == null ? Collections.<String>emptySet() : getReceiverTypeNames(boxedClass);
+
+    for (PsiClass utilClass : getScopeUtilClasses(place)) {
+      for (Map.Entry<String, List<PsiMethod>> entry : getExtensionMethodTable(utilClass).entrySet()) {
+        if (isPrimitive) {
+          // primitive receivers are assignable to primitive parameters (widening) and to super types of the boxed type
+          if (!TypeConversionUtil.isPrimitive(entry.getKey()) && !boxedTypeNames.contains(entry.getKey())) continue;
+        } else if (!isUniversalReceiverType(entry.getKey())) {
+          continue;
+        }
+
+        for (PsiMethod psiMethod : entry.getValue()) {
+          if (isApplicable(psiMethod, receiverType) && !hasSimilarExtendedMethod(result, psiMethod)) {
+            result.add(psiMethod);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Utility classes of @ExtensionMethod annotations of all classes enclosing the place, innermost class first
+   */
+  @NotNull
+  private static Set<PsiClass> getScopeUtilClasses(@NotNull PsiElement place) {
+    final Set<PsiClass> result = new LinkedHashSet<PsiClass>();
+    PsiClass psiClass = PsiTreeUtil.getParentOfType(place, PsiClass.class);
+    while (psiClass != null) {
+      result.addAll(getUtilClass(psiClass));
+      psiClass = PsiTreeUtil.getParentOfType(psiClass, PsiClass.class);
+    }
+    return result;
+  }
+}
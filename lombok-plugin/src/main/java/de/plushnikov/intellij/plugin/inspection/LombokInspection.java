@@ -11,6 +11,7 @@ import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
 import de.plushnikov.intellij.plugin.provider.LombokProcessorProvider;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -80,7 +81,10 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
       final Collection<LombokProblem> problems = new HashSet<LombokProblem>();
 
       for (Processor inspector : processorProvider.getProcessors(annotation)) {
-        problems.addAll(inspector.verifyAnnotation(annotation));
+        final long start = LombokMetrics.start();
+        final Collection<LombokProblem> processorProblems = inspector.verifyAnnotation(annotation);
+        LombokMetrics.stop(LombokMetrics.VERIFY_ANNOTATION, inspector, start, processorProblems.size());
+        problems.addAll(processorProblems);
       }
 
       for (LombokProblem problem : problems) {
@@ -0,0 +1,60 @@
+package de.plushnikov.intellij.plugin.language;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.lang.annotation.Annotator;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigCleaner;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigProperty;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigTypes;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigKeys;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Validates keys, operations and values of lombok.config files against {@link ConfigKeys}
+ */
+public class LombokConfigAnnotator implements Annotator {
+
+  @Override
+  public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
+    if (element instanceof LombokConfigProperty) {
+      annotateProperty((LombokConfigProperty) element, holder);
+    } else if (element instanceof LombokConfigCleaner) {
+      annotateKey(element, ((LombokConfigCleaner) element).getKey(), holder);
+    }
+  }
+
+  private void annotateProperty(@NotNull LombokConfigProperty property, @NotNull AnnotationHolder holder) {
+    final ConfigKeys configKey = annotateKey(property, property.getKey(), holder);
+    if (null == configKey) {
+      return;
+    }
+
+    final boolean listOperation = null != property.getOperation().getNode().findChildByType(LombokConfigTypes.SIGN);
+    if (listOperation && !configKey.isList()) {
+      holder.createErrorAnnotation(property.getOperation(), String.format("'%s' is not a list, use '='", configKey.getConfigKey()));
+    } else if (!listOperation && configKey.isList()) {
+      holder.createErrorAnnotation(property.getOperation(), String.format("'%s' is a list, use '+=' or '-='", configKey.getConfigKey()));
+    }
+
+    final ASTNode valueNode = property.getNode().findChildByType(LombokConfigTypes.VALUE);
+    if (null != valueNode && !configKey.isValidValue(valueNode.getText().trim())) {
+      holder.createErrorAnnotation(valueNode, String.format("Invalid value, allowed values are: %s",
+          StringUtil.join(configKey.getAllowedValues(), ", ")));
+    }
+  }
+
+  @Nullable
+  private ConfigKeys annotateKey(@NotNull PsiElement element, String key, @NotNull AnnotationHolder holder) {
+    final ConfigKeys configKey = ConfigKeys.fromConfigKey(key);
+    if (null == configKey && null != key) {
+      final ASTNode keyNode = element.getNode().findChildByType(LombokConfigTypes.KEY);
+      if (null != keyNode) {
+        holder.createWarningAnnotation(keyNode, "Unknown lombok configuration key");
+      }
+    }
+    return configKey;
+  }
+}
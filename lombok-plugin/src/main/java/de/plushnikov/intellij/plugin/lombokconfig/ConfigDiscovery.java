@@ -1,16 +1,33 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiJavaFile;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Resolves lombok configuration for classes the same way lombok does:
+ * config files are applied from the top most directory down to the directory of the source file,
+ * bubbling stops at the directory whose config file contains config.stopBubbling = true.
+ * Effective configuration of every directory is built once from the configuration of its parent directory
+ * and kept in a project wide cache, until a lombok.config file in the directory or one of its parents or project roots change.
+ */
 public class ConfigDiscovery {
+  private static final Key<CachedValue<ConcurrentMap<VirtualFile, Pair<Long, ConfigSnapshot>>>> RESOLVED_CONFIG_KEY = Key.create("LombokResolvedConfig");
+
   private static ConfigDiscovery ourInstance = new ConfigDiscovery();
 
   public static ConfigDiscovery getInstance() {
@@ -20,52 +37,94 @@ public class ConfigDiscovery {
   private ConfigDiscovery() {
   }
 
+  /**
+   * @return effective configuration of the directory containing psiClass
+   */
   @NotNull
-  public String getStringLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
-    final PsiFile psiFile = psiClass.getContainingFile();
-    if (psiFile instanceof PsiJavaFile) {
-      final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
-      final GlobalSearchScope searchScope = GlobalSearchScope.projectScope(psiClass.getProject());
-
-      String packageName = ((PsiJavaFile) psiFile).getPackageName();
-      while (null != packageName) {
-
-        final String property = readProperty(fileBasedIndex, searchScope, packageName, configKey);
-        if (null == property) {
-          final String stopBublingProperty = readProperty(fileBasedIndex, searchScope, packageName, ConfigKeys.CONFIG_STOP_BUBBLING);
-          if (Boolean.parseBoolean(stopBublingProperty)) {
-            break;
-          }
-        } else {
-          return property;
-        }
-
-        if (!packageName.isEmpty()) {
-          packageName = StringUtil.getPackageName(packageName);
-        } else {
-          packageName = null;
-        }
+  public ConfigSnapshot getSnapshot(@NotNull PsiClass psiClass) {
+    final long start = LombokMetrics.start();
+    try {
+      final VirtualFile directory = getDirectory(psiClass);
+      if (null != directory) {
+        return getResolvedConfig(psiClass.getProject(), directory);
       }
+      return ConfigSnapshot.EMPTY;
+    } finally {
+      LombokMetrics.stop(LombokMetrics.CONFIG_DISCOVERY, this, start, 1);
     }
-    return configKey.getConfigDefaultValue();
   }
 
-  private String readProperty(FileBasedIndex fileBasedIndex, GlobalSearchScope searchScope, String packageName, ConfigKeys configKey) {
-    final ConfigIndexKey configIndexKey = new ConfigIndexKey(packageName, configKey.getConfigKey());
-    final List<String> values = fileBasedIndex.getValues(LombokConfigIndex.NAME, configIndexKey, searchScope);
-    if (!values.isEmpty()) {
-      return values.iterator().next();
+  @Nullable
+  static VirtualFile getDirectory(@NotNull PsiClass psiClass) {
+    final PsiFile psiFile = psiClass.getContainingFile();
+    if (null != psiFile) {
+      // completion and other in-memory copies are resolved like their original file
+      final VirtualFile virtualFile = psiFile.getOriginalFile().getVirtualFile();
+      if (null != virtualFile) {
+        return virtualFile.getParent();
+      }
     }
     return null;
   }
 
+  @NotNull
+  public String getStringLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
+    return getSnapshot(psiClass).getString(configKey);
+  }
+
+  /**
+   * @return effective configuration of the directory, computed once for all classes of the directory
+   */
+  @NotNull
+  public ConfigSnapshot getSnapshot(@NotNull Project project, @NotNull VirtualFile directory) {
+    return getResolvedConfig(project, directory);
+  }
+
+  @NotNull
+  private ConfigSnapshot getResolvedConfig(@NotNull final Project project, @NotNull VirtualFile directory) {
+    final ConcurrentMap<VirtualFile, Pair<Long, ConfigSnapshot>> resolvedConfigs = CachedValuesManager.getManager(project).getCachedValue(project,
+        RESOLVED_CONFIG_KEY, new CachedValueProvider<ConcurrentMap<VirtualFile, Pair<Long, ConfigSnapshot>>>() {
+          @Nullable
+          @Override
+          public Result<ConcurrentMap<VirtualFile, Pair<Long, ConfigSnapshot>>> compute() {
+            return Result.<ConcurrentMap<VirtualFile, Pair<Long, ConfigSnapshot>>>create(
+                new ConcurrentHashMap<VirtualFile, Pair<Long, ConfigSnapshot>>(), ProjectRootManager.getInstance(project));
+          }
+        }, false);
+
+    // entry stays valid until a config file in the directory or in one of its parents changes
+    final long modificationCount = LombokConfigModificationTracker.getInstance(project).getModificationCount(directory);
+    final Pair<Long, ConfigSnapshot> cachedEntry = resolvedConfigs.get(directory);
+    if (null != cachedEntry && cachedEntry.getFirst() == modificationCount) {
+      return cachedEntry.getSecond();
+    }
+
+    final ConfigSnapshot result = resolveConfig(project, directory);
+    resolvedConfigs.put(directory, Pair.create(modificationCount, result));
+    return result;
+  }
+
+  /**
+   * Entries of the config file of the directory are applied on top of the merged configuration of the parent directory,
+   * directories without config file share the configuration instance of their parent
+   */
+  @NotNull
+  private ConfigSnapshot resolveConfig(@NotNull Project project, @NotNull VirtualFile directory) {
+    final List<ConfigEntry> configEntries = LombokConfigIndex.readEntries(project, directory);
+
+    final ConfigSnapshot ownConfig = ConfigSnapshot.EMPTY.apply(configEntries);
+    final VirtualFile parentDirectory = directory.getParent();
+    if (ownConfig.isStopBubbling() || null == parentDirectory) {
+      return ownConfig;
+    }
+    return getResolvedConfig(project, parentDirectory).apply(configEntries);
+  }
+
   public boolean getBooleanLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
-    final String configProperty = getStringLombokConfigProperty(configKey, psiClass);
-    return Boolean.parseBoolean(configProperty);
+    return getSnapshot(psiClass).getBoolean(configKey);
   }
 
   public boolean getFlagUsageLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
-    final String configProperty = getStringLombokConfigProperty(configKey, psiClass);
-    return Boolean.parseBoolean(configProperty);
+    return getSnapshot(psiClass).getBoolean(configKey);
   }
 }
@@ -0,0 +1,76 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * One line of a lombok.config file: assignment, list operation or clear of a key
+ */
+public class ConfigEntry {
+  public enum Operation {
+    SET("="), ADD("+="), REMOVE("-="), CLEAR("clear");
+
+    private final String text;
+
+    Operation(String text) {
+      this.text = text;
+    }
+
+    public String getText() {
+      return text;
+    }
+  }
+
+  private final Operation operation;
+  private final String key;
+  private final String value;
+
+  public ConfigEntry(@NotNull Operation operation, @NotNull String key, @NotNull String value) {
+    this.operation = operation;
+    this.key = key;
+    this.value = value;
+  }
+
+  @NotNull
+  public Operation getOperation() {
+    return operation;
+  }
+
+  @NotNull
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return value of the entry, empty for {@link Operation#CLEAR}
+   */
+  @NotNull
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    ConfigEntry that = (ConfigEntry) o;
+    return operation == that.operation && key.equals(that.key) && value.equals(that.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = operation.hashCode();
+    result = 31 * result + key.hashCode();
+    result = 31 * result + value.hashCode();
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return operation == Operation.CLEAR ? "clear " + key : key + " " + operation.getText() + " " + value;
+  }
+}
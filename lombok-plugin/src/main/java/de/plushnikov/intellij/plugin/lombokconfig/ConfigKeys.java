@@ -1,38 +1,118 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Registry of all known lombok.config keys with type, default value and allowed values
+ */
 public enum ConfigKeys {
 
-  CONFIG_STOP_BUBBLING("config.stopBubbling", "false"),
+  CONFIG_STOP_BUBBLING("config.stopBubbling", "false", ConfigValueType.BOOLEAN),
+
+  ADD_GENERATED_ANNOTATION("lombok.addGeneratedAnnotation", "true", ConfigValueType.BOOLEAN),
+  ADD_JAVAX_GENERATED_ANNOTATION("lombok.addJavaxGeneratedAnnotation", "true", ConfigValueType.BOOLEAN),
+  ADD_LOMBOK_GENERATED_ANNOTATION("lombok.addLombokGeneratedAnnotation", "false", ConfigValueType.BOOLEAN),
+  EXTERN_FINDBUGS_ADD_SUPPRESS_FB_WARNINGS("lombok.extern.findbugs.addSuppressFBWarnings", "false", ConfigValueType.BOOLEAN),
+
+  LOG_FIELDNAME("lombok.log.fieldName", "log", ConfigValueType.STRING),
+  LOG_FIELD_IS_STATIC("lombok.log.fieldIsStatic", "true", ConfigValueType.BOOLEAN),
+
+  EQUALSANDHASHCODE_DO_NOT_USE_GETTERS("lombok.equalsAndHashCode.doNotUseGetters", "false", ConfigValueType.BOOLEAN),
+  EQUALSANDHASHCODE_CALL_SUPER("lombok.equalsAndHashCode.callSuper", "warn", ConfigValueType.STRING, "call", "skip", "warn"),
+  ANYCONSTRUCTOR_SUPPRESS_CONSTRUCTOR_PROPERTIES("lombok.anyConstructor.suppressConstructorProperties", "false", ConfigValueType.BOOLEAN),
+  ANYCONSTRUCTOR_ADD_CONSTRUCTOR_PROPERTIES("lombok.anyConstructor.addConstructorProperties", "false", ConfigValueType.BOOLEAN),
+
+  TOSTRING_DO_NOT_USE_GETTERS("lombok.toString.doNotUseGetters", "false", ConfigValueType.BOOLEAN),
+  TOSTRING_INCLUDE_FIELD_NAMES("lombok.toString.includeFieldNames", "true", ConfigValueType.BOOLEAN),
 
-  LOG_FIELDNAME("lombok.log.fieldName", "log"),
-  LOG_FIELD_IS_STATIC("lombok.log.fieldIsStatic", "true"),
+  ACCESSORS_PREFIX("lombok.accessors.prefix", "", ConfigValueType.LIST),
+  ACCESSORS_CHAIN("lombok.accessors.chain", "false", ConfigValueType.BOOLEAN),
+  ACCESSORS_FLUENT("lombok.accessors.fluent", "false", ConfigValueType.BOOLEAN),
+  GETTER_NO_IS_PREFIX("lombok.getter.noIsPrefix", "false", ConfigValueType.BOOLEAN),
 
-  EQUALSANDHASHCODE_DO_NOT_USE_GETTERS("lombok.equalsAndHashCode.doNotUseGetters", "false"),
-  ANYCONSTRUCTOR_SUPPRESS_CONSTRUCTOR_PROPERTIES("lombok.anyConstructor.suppressConstructorProperties", "false"),
+  FIELD_DEFAULTS_DEFAULT_PRIVATE("lombok.fieldDefaults.defaultPrivate", "false", ConfigValueType.BOOLEAN),
+  FIELD_DEFAULTS_DEFAULT_FINAL("lombok.fieldDefaults.defaultFinal", "false", ConfigValueType.BOOLEAN),
 
-  TOSTRING_DO_NOT_USE_GETTERS("lombok.toString.doNotUseGetters", "false"),
-  TOSTRING_INCLUDE_FIELD_NAMES("lombok.toString.includeFieldNames", "true"),
+  SINGULAR_USE_GUAVA("lombok.singular.useGuava", "false", ConfigValueType.BOOLEAN),
+  SINGULAR_AUTO("lombok.singular.auto", "true", ConfigValueType.BOOLEAN),
 
-  ACCESSORS_PREFIX("lombok.accessors.prefix", ""),
-  ACCESSORS_CHAIN("lombok.accessors.chain", "false"),
-  ACCESSORS_FLUENT("lombok.accessors.fluent", "false"),
-  GETTER_NO_IS_PREFIX("lombok.getter.noIsPrefix", "false"),
+  NONNULL_EXCEPTIONTYPE("lombok.nonNull.exceptionType", "NullPointerException", ConfigValueType.STRING,
+      "NullPointerException", "IllegalArgumentException"),
 
-  SINGULAR_USE_GUAVA("lombok.singular.useGuava", "false"),
-  SINGULAR_AUTO("lombok.singular.auto", "true"),
+  ACCESSORS_FLAG_USAGE("lombok.accessors.flagUsage"),
+  ALL_ARGS_CONSTRUCTOR_FLAG_USAGE("lombok.allArgsConstructor.flagUsage"),
+  ANY_CONSTRUCTOR_FLAG_USAGE("lombok.anyConstructor.flagUsage"),
+  BUILDER_FLAG_USAGE("lombok.builder.flagUsage"),
+  CLEANUP_FLAG_USAGE("lombok.cleanup.flagUsage"),
+  DATA_FLAG_USAGE("lombok.data.flagUsage"),
+  DELEGATE_FLAG_USAGE("lombok.delegate.flagUsage"),
+  EQUALS_AND_HASHCODE_FLAG_USAGE("lombok.equalsAndHashCode.flagUsage"),
+  EXPERIMENTAL_FLAG_USAGE("lombok.experimental.flagUsage"),
+  EXTENSION_METHOD_FLAG_USAGE("lombok.extensionMethod.flagUsage"),
+  FIELD_DEFAULTS_FLAG_USAGE("lombok.fieldDefaults.flagUsage"),
+  FIELD_NAME_CONSTANTS_FLAG_USAGE("lombok.fieldNameConstants.flagUsage"),
+  GETTER_FLAG_USAGE("lombok.getter.flagUsage"),
+  GETTER_LAZY_FLAG_USAGE("lombok.getter.lazy.flagUsage"),
+  HELPER_FLAG_USAGE("lombok.helper.flagUsage"),
+  LOG_APACHE_COMMONS_FLAG_USAGE("lombok.log.apacheCommons.flagUsage"),
+  LOG_FLAG_USAGE("lombok.log.flagUsage"),
+  LOG_JAVA_UTIL_LOGGING_FLAG_USAGE("lombok.log.javaUtilLogging.flagUsage"),
+  LOG_JBOSSLOG_FLAG_USAGE("lombok.log.jbosslog.flagUsage"),
+  LOG_LOG4J_FLAG_USAGE("lombok.log.log4j.flagUsage"),
+  LOG_LOG4J2_FLAG_USAGE("lombok.log.log4j2.flagUsage"),
+  LOG_SLF4J_FLAG_USAGE("lombok.log.slf4j.flagUsage"),
+  LOG_XSLF4J_FLAG_USAGE("lombok.log.xslf4j.flagUsage"),
+  NO_ARGS_CONSTRUCTOR_FLAG_USAGE("lombok.noArgsConstructor.flagUsage"),
+  NON_NULL_FLAG_USAGE("lombok.nonNull.flagUsage"),
+  ON_X_FLAG_USAGE("lombok.onX.flagUsage"),
+  REQUIRED_ARGS_CONSTRUCTOR_FLAG_USAGE("lombok.requiredArgsConstructor.flagUsage"),
+  SETTER_FLAG_USAGE("lombok.setter.flagUsage"),
+  SNEAKY_THROWS_FLAG_USAGE("lombok.sneakyThrows.flagUsage"),
+  SYNCHRONIZED_FLAG_USAGE("lombok.synchronized.flagUsage"),
+  TO_STRING_FLAG_USAGE("lombok.toString.flagUsage"),
+  UTILITY_CLASS_FLAG_USAGE("lombok.utilityClass.flagUsage"),
+  VAL_FLAG_USAGE("lombok.val.flagUsage"),
+  VALUE_FLAG_USAGE("lombok.value.flagUsage"),
+  VAR_FLAG_USAGE("lombok.var.flagUsage"),
+  WITHER_FLAG_USAGE("lombok.wither.flagUsage");
 
-  NONNULL_EXCEPTIONTYPE("lombok.nonNull.exceptionType", "NullPointerException");
+  private static final Map<String, ConfigKeys> BY_CONFIG_KEY = new HashMap<String, ConfigKeys>();
+
+  static {
+    for (ConfigKeys configKey : values()) {
+      BY_CONFIG_KEY.put(configKey.getConfigKey(), configKey);
+    }
+  }
 
   private final String configKey;
   private final String configDefaultValue;
+  private final ConfigValueType type;
+  private final List<String> allowedValues;
+
+  ConfigKeys(String configKey) {
+    this(configKey, "", ConfigValueType.FLAG_USAGE);
+  }
 
-  ConfigKeys(String configKey, String configDefaultValue) {
+  ConfigKeys(String configKey, String configDefaultValue, ConfigValueType type, String... allowedValues) {
     this.configKey = configKey;
     this.configDefaultValue = configDefaultValue;
+    this.type = type;
+    this.allowedValues = allowedValues.length == 0 ? type.getAllowedValues() : Collections.unmodifiableList(Arrays.asList(allowedValues));
+  }
+
+  /**
+   * @return registered key or null, if the key is unknown
+   */
+  @Nullable
+  public static ConfigKeys fromConfigKey(@Nullable String configKey) {
+    return BY_CONFIG_KEY.get(configKey);
   }
 
   public String getConfigKey() {
@@ -43,17 +123,32 @@ public enum ConfigKeys {
     return configDefaultValue;
   }
 
-  //TODO ADD ALL KEYS
-  final Collection<String> flagUsageOptions = new HashSet<String>(Arrays.asList(
-      "lombok.accessors.flagUsage", "lombok.allArgsConstructor.flagUsage", "lombok.anyConstructor.flagUsage",
-      "lombok.builder.flagUsage", "lombok.cleanup.flagUsage", "lombok.data.flagUsage", "lombok.delegate.flagUsage",
-      "lombok.equalsAndHashCode.flagUsage", "lombok.experimental.flagUsage", "lombok.extensionMethod.flagUsage",
-      "lombok.fieldDefaults.flagUsage", "lombok.getter.flagUsage", "lombok.getter.lazy.flagUsage",
-      "lombok.log.apacheCommons.flagUsage", "lombok.log.flagUsage", "lombok.log.javaUtilLogging.flagUsage",
-      "lombok.log.log4j.flagUsage", "lombok.log.log4j2.flagUsage", "lombok.log.slf4j.flagUsage",
-      "lombok.log.xslf4j.flagUsage", "lombok.noArgsConstructor.flagUsage", "lombok.nonNull.flagUsage",
-      "lombok.requiredArgsConstructor.flagUsage", "lombok.setter.flagUsage", "lombok.sneakyThrows.flagUsage",
-      "lombok.synchronized.flagUsage", "lombok.toString.flagUsage", "lombok.val.flagUsage", "lombok.value.flagUsage",
-      "lombok.wither.flagUsage"));
+  @NotNull
+  public ConfigValueType getType() {
+    return type;
+  }
+
+  /**
+   * @return allowed values of the key, empty if any value is allowed
+   */
+  @NotNull
+  public List<String> getAllowedValues() {
+    return allowedValues;
+  }
+
+  public boolean isList() {
+    return type == ConfigValueType.LIST;
+  }
 
+  public boolean isValidValue(@NotNull String value) {
+    if (allowedValues.isEmpty()) {
+      return true;
+    }
+    for (String allowedValue : allowedValues) {
+      if (allowedValue.equalsIgnoreCase(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
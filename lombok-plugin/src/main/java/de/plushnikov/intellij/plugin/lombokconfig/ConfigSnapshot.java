@@ -0,0 +1,157 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable effective lombok configuration of one directory, typed values are parsed once on creation.
+ * Configuration of a child directory is created by applying entries of its config file to the configuration of the parent.
+ */
+public class ConfigSnapshot {
+  static final ConfigSnapshot EMPTY = new ConfigSnapshot(Collections.<String, String>emptyMap(), Collections.<String, List<String>>emptyMap());
+
+  private final Map<String, String> values;
+  private final Map<String, List<String>> listValues;
+  private final boolean[] booleanValues;
+  private final List<List<String>> parsedListValues;
+
+  private ConfigSnapshot(@NotNull Map<String, String> values, @NotNull Map<String, List<String>> listValues) {
+    this.values = values;
+    this.listValues = listValues;
+
+    final ConfigKeys[] configKeys = ConfigKeys.values();
+    this.booleanValues = new boolean[configKeys.length];
+    this.parsedListValues = new ArrayList<List<String>>(configKeys.length);
+    for (ConfigKeys configKey : configKeys) {
+      booleanValues[configKey.ordinal()] = Boolean.parseBoolean(getString(configKey));
+      parsedListValues.add(configKey.isList() ? readList(configKey) : null);
+    }
+  }
+
+  /**
+   * Applies entries of one config file in order of declaration:
+   * "=" replaces the value, "+=" and "-=" add to or remove from the list value, "clear" resets the key to its default.
+   * Keys registered in {@link ConfigKeys} as lists are always kept as lists, "=" for them is ignored like in lombok
+   * (and reported by {@link de.plushnikov.intellij.plugin.language.LombokConfigAnnotator})
+   *
+   * @return new configuration, or this instance if there are no entries
+   */
+  @NotNull
+  ConfigSnapshot apply(@NotNull List<ConfigEntry> configEntries) {
+    if (configEntries.isEmpty()) {
+      return this;
+    }
+
+    final Map<String, String> newValues = new HashMap<String, String>(values);
+    final Map<String, List<String>> newListValues = new HashMap<String, List<String>>(listValues);
+    for (ConfigEntry configEntry : configEntries) {
+      final String key = configEntry.getKey();
+      switch (configEntry.getOperation()) {
+        case SET:
+          final ConfigKeys configKey = ConfigKeys.fromConfigKey(key);
+          if (null == configKey || !configKey.isList()) {
+            newValues.put(key, configEntry.getValue());
+          }
+          break;
+        case ADD:
+        case REMOVE:
+          final List<String> list = new ArrayList<String>(getListOrEmpty(newListValues, key));
+          list.remove(configEntry.getValue());
+          if (configEntry.getOperation() == ConfigEntry.Operation.ADD) {
+            list.add(configEntry.getValue());
+          }
+          newListValues.put(key, Collections.unmodifiableList(list));
+          break;
+        case CLEAR:
+          newValues.remove(key);
+          newListValues.put(key, Collections.<String>emptyList());
+          break;
+      }
+    }
+    return new ConfigSnapshot(newValues, newListValues);
+  }
+
+  @NotNull
+  private static List<String> getListOrEmpty(@NotNull Map<String, List<String>> listValues, @NotNull String key) {
+    final List<String> list = listValues.get(key);
+    return null == list ? Collections.<String>emptyList() : list;
+  }
+
+  @NotNull
+  private static List<String> parseList(@NotNull String value) {
+    final List<String> result = new ArrayList<String>();
+    for (String item : StringUtil.split(value, ",")) {
+      final String trimmedItem = item.trim();
+      if (!trimmedItem.isEmpty()) {
+        result.add(trimmedItem);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  public String getString(@NotNull ConfigKeys configKey) {
+    final String value = values.get(configKey.getConfigKey());
+    return null == value ? configKey.getConfigDefaultValue() : value;
+  }
+
+  public boolean getBoolean(@NotNull ConfigKeys configKey) {
+    return booleanValues[configKey.ordinal()];
+  }
+
+  /**
+   * @return value built with list operations, or the plain value split by commas, if there are no list operations for the key
+   */
+  @NotNull
+  public List<String> getList(@NotNull ConfigKeys configKey) {
+    final List<String> parsedList = parsedListValues.get(configKey.ordinal());
+    return null == parsedList ? readList(configKey) : parsedList;
+  }
+
+  @NotNull
+  private List<String> readList(@NotNull ConfigKeys configKey) {
+    final List<String> list = listValues.get(configKey.getConfigKey());
+    return null == list ? Collections.unmodifiableList(parseList(getString(configKey))) : list;
+  }
+
+  public boolean isStopBubbling() {
+    return getBoolean(ConfigKeys.CONFIG_STOP_BUBBLING);
+  }
+
+  @NotNull
+  public String getLogFieldName() {
+    return getString(ConfigKeys.LOG_FIELDNAME);
+  }
+
+  public boolean isLogFieldStatic() {
+    return getBoolean(ConfigKeys.LOG_FIELD_IS_STATIC);
+  }
+
+  public boolean isAccessorsChain() {
+    return getBoolean(ConfigKeys.ACCESSORS_CHAIN);
+  }
+
+  public boolean isAccessorsFluent() {
+    return getBoolean(ConfigKeys.ACCESSORS_FLUENT);
+  }
+
+  @NotNull
+  public List<String> getAccessorsPrefix() {
+    return getList(ConfigKeys.ACCESSORS_PREFIX);
+  }
+
+  public boolean isGetterNoIsPrefix() {
+    return getBoolean(ConfigKeys.GETTER_NO_IS_PREFIX);
+  }
+
+  @NotNull
+  public String getNonNullExceptionType() {
+    return getString(ConfigKeys.NONNULL_EXCEPTIONTYPE);
+  }
+}
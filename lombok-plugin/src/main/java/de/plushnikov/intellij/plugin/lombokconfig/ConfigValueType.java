@@ -0,0 +1,31 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type of values of a lombok.config key
+ */
+public enum ConfigValueType {
+  BOOLEAN("true", "false"),
+  FLAG_USAGE("WARNING", "ERROR"),
+  STRING,
+  LIST;
+
+  private final List<String> allowedValues;
+
+  ConfigValueType(String... allowedValues) {
+    this.allowedValues = Collections.unmodifiableList(Arrays.asList(allowedValues));
+  }
+
+  /**
+   * @return allowed values of the type, empty if any value is allowed
+   */
+  @NotNull
+  public List<String> getAllowedValues() {
+    return allowedValues;
+  }
+}
@@ -0,0 +1,131 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of effective lombok configuration of all source directories of the project.
+ * Lists only directories whose configuration differs from the configuration of the parent directory
+ * and only keys which differ, as tab separated values: directory, key, value, inherited value.
+ * <p>
+ * Uses the memoised directory configurations of {@link ConfigDiscovery}, so a report after a config change recomputes only affected directories.
+ * Directories are collected per source root and processed one by one, each in its own short read action,
+ * so the report can be built in background without blocking of write actions.
+ */
+public class EffectiveConfigReport {
+  private static final String HEADER = "directory\tkey\tvalue\tinherited_value\n";
+
+  private EffectiveConfigReport() {
+  }
+
+  @NotNull
+  public static String createReport(@NotNull final Project project, @NotNull ProgressIndicator indicator) {
+    final List<VirtualFile> directories = collectSourceDirectories(project, indicator);
+
+    final StringBuilder report = new StringBuilder(HEADER);
+    for (int i = 0; i < directories.size(); i++) {
+      indicator.checkCanceled();
+      indicator.setFraction((double) i / directories.size());
+
+      final VirtualFile directory = directories.get(i);
+      final String directoryReport = DumbService.getInstance(project).runReadActionInSmartMode(new Computable<String>() {
+        @Override
+        public String compute() {
+          return directory.isValid() ? createDirectoryReport(project, directory) : "";
+        }
+      });
+      report.append(directoryReport);
+    }
+    return report.toString();
+  }
+
+  /**
+   * Every source root is walked in its own read action, the walk can be cancelled
+   */
+  @NotNull
+  private static List<VirtualFile> collectSourceDirectories(@NotNull final Project project, @NotNull ProgressIndicator indicator) {
+    final VirtualFile[] sourceRoots = ApplicationManager.getApplication().runReadAction(new Computable<VirtualFile[]>() {
+      @Override
+      public VirtualFile[] compute() {
+        return ProjectRootManager.getInstance(project).getContentSourceRoots();
+      }
+    });
+
+    final List<VirtualFile> result = new ArrayList<VirtualFile>();
+    for (final VirtualFile sourceRoot : sourceRoots) {
+      indicator.checkCanceled();
+      result.addAll(ApplicationManager.getApplication().runReadAction(new Computable<List<VirtualFile>>() {
+        @Override
+        public List<VirtualFile> compute() {
+          return sourceRoot.isValid() ? collectDirectories(sourceRoot) : Collections.<VirtualFile>emptyList();
+        }
+      }));
+    }
+    return result;
+  }
+
+  @NotNull
+  private static List<VirtualFile> collectDirectories(@NotNull VirtualFile sourceRoot) {
+    final List<VirtualFile> result = new ArrayList<VirtualFile>();
+    VfsUtilCore.visitChildrenRecursively(sourceRoot, new VirtualFileVisitor() {
+      @Override
+      public boolean visitFile(@NotNull VirtualFile file) {
+        ProgressManager.checkCanceled();
+        if (file.isDirectory()) {
+          result.add(file);
+          return true;
+        }
+        return false;
+      }
+    });
+    return result;
+  }
+
+  @NotNull
+  private static String createDirectoryReport(@NotNull Project project, @NotNull VirtualFile directory) {
+    final ConfigDiscovery configDiscovery = ConfigDiscovery.getInstance();
+    final ConfigSnapshot snapshot = configDiscovery.getSnapshot(project, directory);
+
+    final VirtualFile parentDirectory = directory.getParent();
+    final ConfigSnapshot parentSnapshot = null == parentDirectory ? ConfigSnapshot.EMPTY : configDiscovery.getSnapshot(project, parentDirectory);
+    // directories without own config file share the configuration instance of their parent
+    if (snapshot == parentSnapshot) {
+      return "";
+    }
+
+    final StringBuilder result = new StringBuilder();
+    for (ConfigKeys configKey : ConfigKeys.values()) {
+      final String value = getValue(snapshot, configKey);
+      final String inheritedValue = getValue(parentSnapshot, configKey);
+      if (!value.equals(inheritedValue)) {
+        result.append(directory.getPresentableUrl()).append('\t')
+            .append(configKey.getConfigKey()).append('\t')
+            .append(value).append('\t')
+            .append(inheritedValue).append('\n');
+      }
+    }
+    return result.toString();
+  }
+
+  @NotNull
+  private static String getValue(@NotNull ConfigSnapshot snapshot, @NotNull ConfigKeys configKey) {
+    if (configKey.isList()) {
+      return StringUtil.join(snapshot.getList(configKey), ",");
+    }
+    return snapshot.getString(configKey);
+  }
+}
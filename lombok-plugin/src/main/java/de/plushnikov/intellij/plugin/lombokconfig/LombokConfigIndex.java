@@ -1,10 +1,12 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.psi.JavaDirectoryService;
-import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiManager;
-import com.intellij.psi.PsiPackage;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
 import com.intellij.util.indexing.FileBasedIndex;
@@ -15,86 +17,177 @@ import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import de.plushnikov.intellij.plugin.language.LombokConfigFileType;
-import de.plushnikov.intellij.plugin.language.psi.LombokConfigFile;
-import de.plushnikov.intellij.plugin.language.psi.LombokConfigProperty;
+import de.plushnikov.intellij.plugin.language.LombokConfigLexerAdapter;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigTypes;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
-public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, String> {
+/**
+ * Index of lombok.config files. Key is the path of the directory containing the file,
+ * value contains all entries of the file (assignments, list operations and clear) in order of declaration,
+ * so configuration of one directory is read with a single index lookup of its own key.
+ * The indexer works on lexer tokens only, merging of configuration along the directory tree is done at query time.
+ */
+public class LombokConfigIndex extends FileBasedIndexExtension<String, List<ConfigEntry>> {
   @NonNls
-  public static final ID<ConfigIndexKey, String> NAME = ID.create("LombokConfigIndex");
+  public static final ID<String, List<ConfigEntry>> NAME = ID.create("LombokConfigIndex");
+  public static final String CONFIG_FILE_NAME = "lombok.config";
 
   @NotNull
   @Override
-  public ID<ConfigIndexKey, String> getName() {
+  public ID<String, List<ConfigEntry>> getName() {
     return NAME;
   }
 
   @NotNull
   @Override
-  public DataIndexer<ConfigIndexKey, String, FileContent> getIndexer() {
-    return new DataIndexer<ConfigIndexKey, String, FileContent>() {
+  public DataIndexer<String, List<ConfigEntry>, FileContent> getIndexer() {
+    return new DataIndexer<String, List<ConfigEntry>, FileContent>() {
       @NotNull
       @Override
-      public Map<ConfigIndexKey, String> map(@NotNull FileContent inputData) {
-        Map<ConfigIndexKey, String> result = new HashMap<ConfigIndexKey, String>();
-
-        final PsiManager psiManager = PsiManager.getInstance(inputData.getProject());
-        final PsiDirectory directory = psiManager.findDirectory(inputData.getFile().getParent());
-        if (null != directory) {
-          final PsiPackage directoryPackage = JavaDirectoryService.getInstance().getPackage(directory);
-          if (null != directoryPackage) {
-            final LombokConfigProperty[] configProperties = LombokConfigUtil.getLombokConfigProperties((LombokConfigFile) inputData.getPsiFile());
-            for (LombokConfigProperty configProperty : configProperties) {
-              result.put(new ConfigIndexKey(directoryPackage.getQualifiedName(), configProperty.getKey()), configProperty.getValue());
-            }
-          }
+      public Map<String, List<ConfigEntry>> map(@NotNull FileContent inputData) {
+        final VirtualFile directory = inputData.getFile().getParent();
+        if (null == directory) {
+          return Collections.emptyMap();
         }
-
-        return result;
+        return Collections.singletonMap(directory.getPath(), collectEntries(inputData.getContentAsText()));
       }
     };
   }
 
+  /**
+   * @return entries of the lombok.config file in the directory, empty if there is no such file
+   */
   @NotNull
-  @Override
-  public KeyDescriptor<ConfigIndexKey> getKeyDescriptor() {
-    return new KeyDescriptor<ConfigIndexKey>() {
-      @Override
-      public int getHashCode(ConfigIndexKey configKey) {
-        return configKey.hashCode();
-      }
+  public static List<ConfigEntry> readEntries(@NotNull Project project, @NotNull VirtualFile directory) {
+    final VirtualFile configFile = directory.findChild(CONFIG_FILE_NAME);
+    if (null == configFile) {
+      return Collections.emptyList();
+    }
+    final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+    final GlobalSearchScope fileScope = GlobalSearchScope.fileScope(project, configFile);
+    List<List<ConfigEntry>> values = fileBasedIndex.getValues(NAME, directory.getPath(), fileScope);
+    if (values.isEmpty()) {
+      // files are not reindexed, if one of their parent directories is renamed or moved, so the key of the file is outdated
+      fileBasedIndex.requestReindex(configFile);
+      values = fileBasedIndex.getValues(NAME, directory.getPath(), fileScope);
+    }
+    return values.isEmpty() ? Collections.<ConfigEntry>emptyList() : values.get(0);
+  }
 
-      @Override
-      public boolean isEqual(ConfigIndexKey val1, ConfigIndexKey val2) {
-        return val1.equals(val2);
-      }
+  /**
+   * Receives entries found by {@link #scanEntries(CharSequence, EntryProcessor)}
+   */
+  interface EntryProcessor {
+    /**
+     * @param keyOffset start offset of the key in the file
+     */
+    void process(@NotNull ConfigEntry entry, int keyOffset);
+  }
 
+  /**
+   * Parses entries of the config file with lexer only, without building of PSI
+   */
+  @NotNull
+  static List<ConfigEntry> collectEntries(@NotNull CharSequence configText) {
+    final List<ConfigEntry> result = new ArrayList<ConfigEntry>();
+    scanEntries(configText, new EntryProcessor() {
       @Override
-      public void save(@NotNull DataOutput out, ConfigIndexKey value) throws IOException {
-        out.writeUTF(StringUtil.notNullize(value.getPackageName()));
-        out.writeUTF(StringUtil.notNullize(value.getConfigKey()));
+      public void process(@NotNull ConfigEntry entry, int keyOffset) {
+        result.add(entry);
       }
+    });
+    return result;
+  }
 
-      @Override
-      public ConfigIndexKey read(@NotNull DataInput in) throws IOException {
-        return new ConfigIndexKey(in.readUTF(), in.readUTF());
+  /**
+   * Single lexer scan of the config file shared by all config indexes
+   */
+  static void scanEntries(@NotNull CharSequence configText, @NotNull EntryProcessor processor) {
+    final Lexer lexer = new LombokConfigLexerAdapter();
+    lexer.start(configText);
+
+    boolean readClear = false;
+    String key = null;
+    int keyOffset = -1;
+    ConfigEntry.Operation operation = ConfigEntry.Operation.SET;
+
+    IElementType tokenType;
+    while ((tokenType = lexer.getTokenType()) != null) {
+      if (tokenType == LombokConfigTypes.CLEAR) {
+        readClear = true;
+        key = null;
+      } else if (tokenType == LombokConfigTypes.KEY) {
+        if (readClear) {
+          processor.process(new ConfigEntry(ConfigEntry.Operation.CLEAR, lexer.getTokenText(), ""), lexer.getTokenStart());
+          readClear = false;
+        } else {
+          key = lexer.getTokenText();
+          keyOffset = lexer.getTokenStart();
+          operation = ConfigEntry.Operation.SET;
+        }
+      } else if (tokenType == LombokConfigTypes.SIGN) {
+        final String sign = lexer.getTokenText().trim();
+        if ("+".equals(sign)) {
+          operation = ConfigEntry.Operation.ADD;
+        } else if ("-".equals(sign)) {
+          operation = ConfigEntry.Operation.REMOVE;
+        }
+      } else if (tokenType == LombokConfigTypes.VALUE) {
+        if (null != key) {
+          processor.process(new ConfigEntry(operation, key, lexer.getTokenText()), keyOffset);
+          key = null;
+        }
+      } else if (tokenType == TokenType.WHITE_SPACE && StringUtil.containsLineBreak(lexer.getTokenText())) {
+        // every entry takes exactly one line
+        readClear = false;
+        key = null;
       }
-    };
+      lexer.advance();
+    }
   }
 
   @NotNull
   @Override
-  public DataExternalizer<String> getValueExternalizer() {
+  public KeyDescriptor<String> getKeyDescriptor() {
     return new EnumeratorStringDescriptor();
   }
 
+  @NotNull
+  @Override
+  public DataExternalizer<List<ConfigEntry>> getValueExternalizer() {
+    return new DataExternalizer<List<ConfigEntry>>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<ConfigEntry> value) throws IOException {
+        out.writeInt(value.size());
+        for (ConfigEntry configEntry : value) {
+          out.writeByte(configEntry.getOperation().ordinal());
+          out.writeUTF(configEntry.getKey());
+          out.writeUTF(configEntry.getValue());
+        }
+      }
+
+      @Override
+      public List<ConfigEntry> read(@NotNull DataInput in) throws IOException {
+        final int size = in.readInt();
+        final List<ConfigEntry> result = new ArrayList<ConfigEntry>(size);
+        for (int i = 0; i < size; i++) {
+          final ConfigEntry.Operation operation = ConfigEntry.Operation.values()[in.readByte()];
+          result.add(new ConfigEntry(operation, in.readUTF(), in.readUTF()));
+        }
+        return result;
+      }
+    };
+  }
+
   @NotNull
   @Override
   public FileBasedIndex.InputFilter getInputFilter() {
@@ -108,6 +201,6 @@ public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, S
 
   @Override
   public int getVersion() {
-    return 1;
+    return 5;
   }
 }
@@ -0,0 +1,119 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import de.plushnikov.intellij.plugin.language.LombokConfigFileType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of keys used in properties of lombok.config files.
+ * Key is the config key, value contains start offsets of all properties (assignments and list operations) defining the key in the file,
+ * so properties of one key can be found without parsing of all config files.
+ */
+public class LombokConfigKeyIndex extends FileBasedIndexExtension<String, List<Integer>> {
+  @NonNls
+  public static final ID<String, List<Integer>> NAME = ID.create("LombokConfigKeyIndex");
+
+  @NotNull
+  @Override
+  public ID<String, List<Integer>> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+    return new DataIndexer<String, List<Integer>, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, List<Integer>> map(@NotNull FileContent inputData) {
+        return collectKeyOffsets(inputData.getContentAsText());
+      }
+    };
+  }
+
+  /**
+   * Uses the same lexer scan as {@link LombokConfigIndex}, so only complete properties with a value are indexed
+   */
+  @NotNull
+  static Map<String, List<Integer>> collectKeyOffsets(@NotNull CharSequence configText) {
+    final Map<String, List<Integer>> result = new HashMap<String, List<Integer>>();
+    LombokConfigIndex.scanEntries(configText, new LombokConfigIndex.EntryProcessor() {
+      @Override
+      public void process(@NotNull ConfigEntry entry, int keyOffset) {
+        if (entry.getOperation() != ConfigEntry.Operation.CLEAR) {
+          List<Integer> offsets = result.get(entry.getKey());
+          if (null == offsets) {
+            offsets = new ArrayList<Integer>();
+            result.put(entry.getKey(), offsets);
+          }
+          offsets.add(keyOffset);
+        }
+      }
+    });
+    return result;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<Integer>> getValueExternalizer() {
+    return new DataExternalizer<List<Integer>>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<Integer> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (Integer offset : value) {
+          DataInputOutputUtil.writeINT(out, offset);
+        }
+      }
+
+      @Override
+      public List<Integer> read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        final List<Integer> result = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+          result.add(DataInputOutputUtil.readINT(in));
+        }
+        return result;
+      }
+    };
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(LombokConfigFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+}
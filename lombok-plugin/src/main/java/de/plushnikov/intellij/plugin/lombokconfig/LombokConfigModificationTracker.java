@@ -0,0 +1,194 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Project wide modification tracker, incremented on every change of any lombok.config file.
+ * Additionally remembers in which directory every config change happened, so trackers of single directories
+ * (see {@link #getTracker(PsiClass)}) change only if a config file in the directory itself or in one of its parents was changed.
+ * <p>
+ * PSI events are fired only for files with loaded PSI, so changes of lombok.config files made outside of the editor
+ * (VCS update, external tools) are additionally tracked with a VFS listener.
+ */
+public class LombokConfigModificationTracker implements ModificationTracker {
+  private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
+  private final ConcurrentMap<VirtualFile, Long> myDirectoryModificationCounts = new ConcurrentHashMap<VirtualFile, Long>();
+  private volatile long myStructureModificationCount;
+
+  public static LombokConfigModificationTracker getInstance(@NotNull Project project) {
+    return ServiceManager.getService(project, LombokConfigModificationTracker.class);
+  }
+
+  public LombokConfigModificationTracker(@NotNull Project project) {
+    PsiManager.getInstance(project).addPsiTreeChangeListener(new LombokConfigChangeListener(), project);
+    project.getMessageBus().connect(project).subscribe(VirtualFileManager.VFS_CHANGES, new LombokConfigFileListener());
+  }
+
+  @Override
+  public long getModificationCount() {
+    return myModificationTracker.getModificationCount();
+  }
+
+  /**
+   * @return tracker of configuration changes affecting the directory of psiClass
+   */
+  @NotNull
+  public ModificationTracker getTracker(@NotNull PsiClass psiClass) {
+    final VirtualFile directory = ConfigDiscovery.getDirectory(psiClass);
+    if (null == directory) {
+      return this;
+    }
+    return new ModificationTracker() {
+      @Override
+      public long getModificationCount() {
+        return getModificationCount(directory);
+      }
+    };
+  }
+
+  /**
+   * All counts are taken from the same sequence, so the maximum over the directory and its parents grows with every change affecting the directory
+   */
+  long getModificationCount(@NotNull VirtualFile directory) {
+    long result = myStructureModificationCount;
+    for (VirtualFile currentDirectory = directory; null != currentDirectory; currentDirectory = currentDirectory.getParent()) {
+      final Long directoryModificationCount = myDirectoryModificationCounts.get(currentDirectory);
+      if (null != directoryModificationCount && directoryModificationCount > result) {
+        result = directoryModificationCount;
+      }
+    }
+    return result;
+  }
+
+  private void incModificationCount(@Nullable VirtualFile directory) {
+    myModificationTracker.incModificationCount();
+    final long modificationCount = myModificationTracker.getModificationCount();
+    if (null == directory) {
+      myStructureModificationCount = modificationCount;
+    } else {
+      myDirectoryModificationCounts.put(directory, modificationCount);
+    }
+  }
+
+  private static boolean isConfigFileName(@Nullable Object fileName) {
+    return LombokConfigIndex.CONFIG_FILE_NAME.equals(fileName);
+  }
+
+  private class LombokConfigFileListener extends BulkFileListener.Adapter {
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+      for (VFileEvent event : events) {
+        if (event instanceof VFileCreateEvent) {
+          final VFileCreateEvent createEvent = (VFileCreateEvent) event;
+          if (isConfigFileName(createEvent.getChildName())) {
+            incModificationCount(createEvent.getParent());
+          }
+        } else if (event instanceof VFileCopyEvent) {
+          final VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+          if (isConfigFileName(copyEvent.getNewChildName())) {
+            incModificationCount(copyEvent.getNewParent());
+          }
+        } else if (event instanceof VFileMoveEvent) {
+          final VFileMoveEvent moveEvent = (VFileMoveEvent) event;
+          if (isConfigFileName(moveEvent.getFile().getName())) {
+            incModificationCount(moveEvent.getOldParent());
+            incModificationCount(moveEvent.getNewParent());
+          }
+        } else if (event instanceof VFilePropertyChangeEvent) {
+          final VFilePropertyChangeEvent propertyEvent = (VFilePropertyChangeEvent) event;
+          if (VirtualFile.PROP_NAME.equals(propertyEvent.getPropertyName()) &&
+              (isConfigFileName(propertyEvent.getOldValue()) || isConfigFileName(propertyEvent.getNewValue()))) {
+            incModificationCount(propertyEvent.getFile().getParent());
+          }
+        } else {
+          // content change and deletion
+          final VirtualFile file = event.getFile();
+          if (null != file && isConfigFileName(file.getName())) {
+            incModificationCount(file.getParent());
+          }
+        }
+      }
+    }
+  }
+
+  private class LombokConfigChangeListener extends PsiTreeChangeAdapter {
+    @Override
+    public void childAdded(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    @Override
+    public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    @Override
+    public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    @Override
+    public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    @Override
+    public void childMoved(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    @Override
+    public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+      processChange(event);
+    }
+
+    private void processChange(@NotNull PsiTreeChangeEvent event) {
+      if (event.getFile() instanceof LombokConfigFile) {
+        // change inside of config file
+        incModificationCount(getDirectory(event.getFile()));
+      } else if (event.getChild() instanceof LombokConfigFile || event.getElement() instanceof LombokConfigFile) {
+        // adding/removing/renaming of the whole file
+        final PsiElement parent = event.getParent();
+        if (parent instanceof PsiDirectory) {
+          incModificationCount(((PsiDirectory) parent).getVirtualFile());
+        } else {
+          incModificationCount(getDirectory((PsiFile) (event.getChild() instanceof LombokConfigFile ? event.getChild() : event.getElement())));
+        }
+      } else if (event.getChild() instanceof PsiDirectory || event.getElement() instanceof PsiDirectory) {
+        // moving of directories changes parents of many directories at once
+        incModificationCount(null);
+      }
+    }
+
+    @Nullable
+    private VirtualFile getDirectory(@Nullable PsiFile psiFile) {
+      final PsiDirectory psiDirectory = null == psiFile ? null : psiFile.getContainingDirectory();
+      return null == psiDirectory ? null : psiDirectory.getVirtualFile();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package de.plushnikov.intellij.plugin.lombokconfig;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.FileTypeIndex;
 import com.intellij.psi.search.GlobalSearchScope;
@@ -16,29 +17,42 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class LombokConfigUtil {
 
   private static final LombokConfigProperty[] EMPTY_LOMBOK_CONFIG_PROPERTIES = new LombokConfigProperty[0];
 
-  public static List<LombokConfigProperty> findProperties(Project project, String key) {
-    List<LombokConfigProperty> result = null;
-    Collection<VirtualFile> virtualFiles = FileBasedIndex.getInstance().getContainingFiles(FileTypeIndex.NAME, LombokConfigFileType.INSTANCE,
-        GlobalSearchScope.allScope(project));
-    for (VirtualFile virtualFile : virtualFiles) {
-      LombokConfigFile lombokConfigFile = (LombokConfigFile) PsiManager.getInstance(project).findFile(virtualFile);
-      LombokConfigProperty[] properties = getLombokConfigProperties(lombokConfigFile);
-      for (LombokConfigProperty property : properties) {
-        if (key.equals(property.getKey())) {
-          if (result == null) {
-            result = new ArrayList<LombokConfigProperty>();
+  /**
+   * Only config files containing the key are loaded, properties are found by offsets from {@link LombokConfigKeyIndex}.
+   * Files are collected first and loaded after the index query, as PSI shouldn't be built inside of index processing
+   */
+  public static List<LombokConfigProperty> findProperties(Project project, final String key) {
+    final Map<VirtualFile, List<Integer>> fileOffsets = new LinkedHashMap<VirtualFile, List<Integer>>();
+    FileBasedIndex.getInstance().processValues(LombokConfigKeyIndex.NAME, key, null, new FileBasedIndex.ValueProcessor<List<Integer>>() {
+      @Override
+      public boolean process(VirtualFile virtualFile, List<Integer> offsets) {
+        fileOffsets.put(virtualFile, offsets);
+        return true;
+      }
+    }, GlobalSearchScope.allScope(project));
+
+    final List<LombokConfigProperty> result = new ArrayList<LombokConfigProperty>();
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    for (Map.Entry<VirtualFile, List<Integer>> entry : fileOffsets.entrySet()) {
+      final PsiFile psiFile = psiManager.findFile(entry.getKey());
+      if (psiFile instanceof LombokConfigFile) {
+        for (Integer offset : entry.getValue()) {
+          final LombokConfigProperty property = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), LombokConfigProperty.class, false);
+          if (null != property && key.equals(property.getKey())) {
+            result.add(property);
           }
-          result.add(property);
         }
       }
     }
-    return result != null ? result : Collections.<LombokConfigProperty>emptyList();
+    return result;
   }
 
   public static List<LombokConfigProperty> findProperties(Project project) {
@@ -0,0 +1,28 @@
+package de.plushnikov.intellij.plugin.problem;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Outcome of one validation of a lombok annotation: validity flag and all found problems
+ */
+public class ValidationResult {
+  private final boolean valid;
+  private final Collection<LombokProblem> problems;
+
+  public ValidationResult(boolean valid, @NotNull Collection<LombokProblem> problems) {
+    this.valid = valid;
+    this.problems = Collections.unmodifiableCollection(problems);
+  }
+
+  public boolean isValid() {
+    return valid;
+  }
+
+  @NotNull
+  public Collection<LombokProblem> getProblems() {
+    return problems;
+  }
+}
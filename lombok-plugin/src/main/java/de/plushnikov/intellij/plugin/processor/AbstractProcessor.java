@@ -98,6 +98,15 @@ public abstract class AbstractProcessor implements Processor {
   @NotNull
   public abstract Collection<PsiAnnotation> collectProcessedAnnotations(@NotNull PsiClass psiClass);
 
+  /**
+   * Identifier of the validation this processor runs for its annotation, used as key in {@link ValidationCache}.
+   * Processors validating the same annotation in the same way should return the same value
+   */
+  @NotNull
+  protected String getValidationId() {
+    return getClass().getName();
+  }
+
   protected String getGetterName(final @NotNull PsiField psiField) {
     final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
 
@@ -119,14 +128,11 @@ public abstract class AbstractProcessor implements Processor {
 
   public static boolean readAnnotationOrConfigProperty(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass,
                                                        @NotNull String annotationParameter, @NotNull ConfigKeys configKeys) {
-    final boolean result;
     final Boolean declaredAnnotationValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(psiAnnotation, annotationParameter);
     if (null == declaredAnnotationValue) {
-      result = ConfigDiscovery.getInstance().getBooleanLombokConfigProperty(configKeys, psiClass);
-    } else {
-      result = declaredAnnotationValue;
+      return ConfigDiscovery.getInstance().getSnapshot(psiClass).getBoolean(configKeys);
     }
-    return result;
+    return declaredAnnotationValue;
   }
 
   protected static void addOnXAnnotations(@Nullable PsiAnnotation processedAnnotation,
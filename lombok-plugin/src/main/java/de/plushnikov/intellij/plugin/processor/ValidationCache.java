@@ -0,0 +1,67 @@
+package de.plushnikov.intellij.plugin.processor;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
+import de.plushnikov.intellij.plugin.problem.ValidationResult;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches validation results of lombok annotations, so augmentation and LombokInspection share one computation.
+ * Results are stored on the annotation itself and live as long as the structure of the code and lombok configuration
+ * stay unchanged, with the same dependencies as generated elements.
+ */
+public class ValidationCache {
+  private static final Key<CachedValue<ConcurrentMap<String, ValidationResult>>> VALIDATION_RESULTS_KEY = Key.create("LombokValidationResults");
+
+  public interface Validation {
+    boolean validate(@NotNull ProblemBuilder builder);
+  }
+
+  private ValidationCache() {
+  }
+
+  /**
+   * @param psiAnnotation annotation to validate
+   * @param validationId  identifier of the validation, processors with identical validation can share it
+   * @param validation    validation to run, if there is no cached result yet
+   * @return cached or just computed validation result
+   */
+  @NotNull
+  public static ValidationResult getResult(@NotNull final PsiAnnotation psiAnnotation, @NotNull String validationId, @NotNull Validation validation) {
+    final ConcurrentMap<String, ValidationResult> results = CachedValuesManager.getCachedValue(psiAnnotation, VALIDATION_RESULTS_KEY,
+        new CachedValueProvider<ConcurrentMap<String, ValidationResult>>() {
+          @Nullable
+          @Override
+          public Result<ConcurrentMap<String, ValidationResult>> compute() {
+            final PsiClass psiClass = PsiTreeUtil.getParentOfType(psiAnnotation, PsiClass.class);
+            final Object[] dependencies = null == psiClass ? new Object[]{psiAnnotation} : LombokAugmentProvider.getDependencies(psiClass);
+            return Result.<ConcurrentMap<String, ValidationResult>>create(new ConcurrentHashMap<String, ValidationResult>(), dependencies);
+          }
+        });
+
+    ValidationResult result = results.get(validationId);
+    if (null == result) {
+      final ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder();
+      final boolean valid = validation.validate(problemNewBuilder);
+      result = new ValidationResult(valid, problemNewBuilder.getProblems());
+
+      final ValidationResult previous = results.putIfAbsent(validationId, result);
+      if (null != previous) {
+        result = previous;
+      }
+    }
+    return result;
+  }
+}
@@ -10,9 +10,9 @@ import com.intellij.psi.PsiModifier;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
+import de.plushnikov.intellij.plugin.problem.ValidationResult;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
+import de.plushnikov.intellij.plugin.processor.ValidationCache;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
@@ -46,7 +46,7 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
 
     PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiClass, getSupportedAnnotation());
     if (null != psiAnnotation) {
-      if (validate(psiAnnotation, psiClass, ProblemEmptyBuilder.getInstance())) {
+      if (validateCached(psiAnnotation, psiClass).isValid()) {
         result = new ArrayList<PsiElement>();
         generatePsiElements(psiClass, psiAnnotation, result);
       }
@@ -71,14 +71,22 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     // check first for fields, methods and filter it out, because PsiClass is parent of all annotations and will match other parents too
     PsiElement psiElement = PsiTreeUtil.getParentOfType(psiAnnotation, PsiField.class, PsiMethod.class, PsiClass.class);
     if (psiElement instanceof PsiClass) {
-      ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder();
-      validate(psiAnnotation, (PsiClass) psiElement, problemNewBuilder);
-      result = problemNewBuilder.getProblems();
+      result = validateCached(psiAnnotation, (PsiClass) psiElement).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private ValidationResult validateCached(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiClass psiClass) {
+    return ValidationCache.getResult(psiAnnotation, getValidationId(), new ValidationCache.Validation() {
+      @Override
+      public boolean validate(@NotNull ProblemBuilder builder) {
+        return AbstractClassProcessor.this.validate(psiAnnotation, psiClass, builder);
+      }
+    });
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder);
 
   protected abstract void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target);
@@ -143,7 +143,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(blockText, psiClass);
 
     final LombokLightParameter methodParameter = new LombokLightParameter("o", PsiType.getJavaLangObject(
         psiManager, GlobalSearchScope.allScope(psiClass.getProject())), methodBuilder, JavaLanguage.INSTANCE);
@@ -163,7 +163,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
         .withMethodReturnType(PsiType.INT)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(blockText, psiClass);
   }
 
   @NotNull
@@ -177,7 +177,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(blockText, psiClass);
 
     final LombokLightParameter methodParameter = new LombokLightParameter("other", PsiType.getJavaLangObject(
         psiManager, GlobalSearchScope.allScope(psiClass.getProject())), methodBuilder, JavaLanguage.INSTANCE);
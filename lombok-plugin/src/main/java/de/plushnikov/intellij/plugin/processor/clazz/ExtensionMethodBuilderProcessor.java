@@ -2,13 +2,12 @@ package de.plushnikov.intellij.plugin.processor.clazz;
 
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.psi.util.TypeConversionUtil;
 import de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
@@ -21,15 +20,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.createExtensionMethod;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.findClass;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtensionMethodTable;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getExtensionScope;
-import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getType;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getReceiverTypeNames;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.getUtilClass;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.hasSimilarExtendedMethod;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isApplicable;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isArrayReceiverType;
 import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isExtensible;
+import static de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil.isUniversalReceiverType;
 import static de.plushnikov.intellij.plugin.util.PsiMethodUtil.hasSimilarMethod;
 
 /**
@@ -39,7 +43,6 @@ import static de.plushnikov.intellij.plugin.util.PsiMethodUtil.hasSimilarMethod;
  * @since 1.0.5
  */
 public class ExtensionMethodBuilderProcessor extends AbstractProcessor {
-
   /**
    * {@inheritDoc}
    */
@@ -95,19 +98,35 @@ public class ExtensionMethodBuilderProcessor extends AbstractProcessor {
   @NotNull
   protected List<PsiMethod> getSpecialParamMethods(@NotNull Set<PsiClass> utilClasses, @NotNull PsiClass extensibleClass) {
     List<PsiMethod> methods = new ArrayList<PsiMethod>();
+    if (extensibleClass.getQualifiedName() == null) return methods;
+
     Collection<PsiMethod> extensionClassMethods = PsiClassUtil.collectClassMethodsIntern(extensibleClass);
+    boolean isArray = ExtensionMethodUtil.ARRAY_PSI_CLASS_NAME.equals(extensibleClass.getQualifiedName());
+    Set<String> receiverTypeNames = isArray ? Collections.<String>emptySet() : getReceiverTypeNames(extensibleClass);
+    // declaration site: the class is extended for all parametrizations, so methods are checked against the raw type
+    PsiType extensionType = TypeConversionUtil.erasure(PsiTypesUtil.getClassType(extensibleClass));
+
+    for (PsiClass utilClass : utilClasses) {
+      Map<String, List<PsiMethod>> methodTable = getExtensionMethodTable(utilClass);
+      List<PsiMethod> candidates = new ArrayList<PsiMethod>();
+      if (isArray) {
+        // element type of the array is unknown here, so only methods taking arrays
+        for (Map.Entry<String, List<PsiMethod>> entry : methodTable.entrySet()) {
+          if (isArrayReceiverType(entry.getKey())) candidates.addAll(entry.getValue());
+        }
+      } else {
+        // only methods whose first parameter is erased to the receiver or one of its super types, universal ones are resolved at the call site
+        for (String receiverTypeName : receiverTypeNames) {
+          if (isUniversalReceiverType(receiverTypeName)) continue;
 
-    List<PsiClass> list = new ArrayList<PsiClass>(utilClasses);
-    for (int i = 0; i < list.size(); i++) {
-      for (PsiMethod psiMethod : list.get(i).getAllMethods()) {
-        PsiParameter[] parameters = psiMethod.getParameterList().getParameters();
-        if (parameters.length == 0) continue;
-        if (!psiMethod.hasModifierProperty(PsiModifier.PUBLIC) || !psiMethod.hasModifierProperty(PsiModifier.STATIC) || psiMethod.hasModifierProperty(PsiModifier.ABSTRACT)) continue;
+          List<PsiMethod> tableMethods = methodTable.get(receiverTypeName);
+          if (tableMethods != null) candidates.addAll(tableMethods);
+        }
+      }
 
-        PsiClassType extensionType = PsiTypesUtil.getClassType(extensibleClass);
-        PsiType type = getType(parameters[0].getType(), psiMethod);
-        if (extensibleClass.getQualifiedName() == null) continue;
-        if (!ExtensionMethodUtil.ARRAY_PSI_CLASS_NAME.equals(extensibleClass.getQualifiedName()) && !type.isAssignableFrom(extensionType)) continue;
+      for (PsiMethod psiMethod : candidates) {
+        PsiParameter[] parameters = psiMethod.getParameterList().getParameters();
+        if (!isArray && !isApplicable(psiMethod, extensionType)) continue;
 
         if (!hasSimilarExtendedMethod(methods, psiMethod) && !hasSimilarMethod(extensionClassMethods, psiMethod.getName(), parameters.length - 1)) {
           methods.add(psiMethod);                                                         // filter methods with same names
@@ -110,7 +110,7 @@ public class ToStringProcessor extends AbstractClassProcessor {
 
     final String paramString = createParamString(psiClass, psiFields, psiAnnotation);
     final String blockText = String.format("return \"%s(%s)\";", psiClass.getQualifiedName(), paramString);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(blockText, psiClass);
 
     return method;
   }
@@ -36,6 +36,13 @@ public class BuilderClassProcessor extends AbstractClassProcessor {
     return builderHandler.validate(psiClass, psiAnnotation, builder);
   }
 
+  @NotNull
+  @Override
+  protected String getValidationId() {
+    // validation of BuilderHandler is shared by builder class and builder method processors
+    return BuilderHandler.class.getName();
+  }
+
   protected void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     if (builderHandler.existInnerClass(psiClass, psiAnnotation)) {
       target.add(builderHandler.createBuilderClass(psiClass, psiAnnotation));
@@ -12,6 +12,7 @@ import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.AllArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentSnapshot;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.AllArgsConstructor;
@@ -47,6 +48,13 @@ public class BuilderProcessor extends AbstractClassProcessor {
     return builderHandler.validate(psiClass, psiAnnotation, builder);
   }
 
+  @NotNull
+  @Override
+  protected String getValidationId() {
+    // validation of BuilderHandler is shared by builder class and builder method processors
+    return BuilderHandler.class.getName();
+  }
+
   protected void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, AllArgsConstructor.class)) {
       // Create all args constructor only if there is no declared constructors and no lombok constructor annotations
@@ -60,6 +68,10 @@ public class BuilderProcessor extends AbstractClassProcessor {
 
     final String builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
     PsiClass builderClass = PsiClassUtil.getInnerClassInternByName(psiClass, builderClassName);
+    if (null == builderClass) {
+      // reuse builder class generated by the same augmentation pass of psiClass
+      builderClass = LombokAugmentSnapshot.findGeneratedInnerClass(psiClass, builderClassName);
+    }
     if (null == builderClass) {
       builderClass = builderHandler.createBuilderClass(psiClass, psiAnnotation);
     }
@@ -26,7 +26,6 @@ import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
 import de.plushnikov.intellij.plugin.util.PsiFieldUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Value;
 import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
@@ -272,7 +271,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
       final String fieldInitializer = useJavaDefaults ? PsiTypesUtil.getDefaultValueOfType(param.getType()) : accessorsInfo.removePrefix(param.getName());
       blockText.append(String.format("this.%s = %s;\n", param.getName(), fieldInitializer));
     }
-    constructor.withBody(PsiMethodUtil.createCodeBlockFromText(blockText.toString(), psiClass));
+    constructor.withBody(blockText.toString(), psiClass);
 
     return constructor;
   }
@@ -293,7 +292,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     final String psiClassName = buildClassNameWithGenericTypeParameters(psiClass);
     final String paramsText = useJavaDefaults ? "" : joinParameters(method.getParameterList());
     final String blockText = String.format("return new %s(%s);", psiClassName, paramsText);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(blockText, psiClass);
 
     return method;
   }
@@ -8,9 +8,9 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
+import de.plushnikov.intellij.plugin.problem.ValidationResult;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
+import de.plushnikov.intellij.plugin.processor.ValidationCache;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import org.jetbrains.annotations.NotNull;
@@ -40,7 +40,7 @@ public abstract class AbstractFieldProcessor extends AbstractProcessor implement
     for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
       PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiField, getSupportedAnnotation());
       if (null != psiAnnotation) {
-        if (validate(psiAnnotation, psiField, ProblemEmptyBuilder.getInstance())) {
+        if (validateCached(psiAnnotation, psiField).isValid()) {
           generatePsiElements(psiField, psiAnnotation, result);
         }
       }
@@ -67,14 +67,22 @@ public abstract class AbstractFieldProcessor extends AbstractProcessor implement
 
     PsiField psiField = PsiTreeUtil.getParentOfType(psiAnnotation, PsiField.class);
     if (null != psiField) {
-      ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder();
-      validate(psiAnnotation, psiField, problemNewBuilder);
-      result = problemNewBuilder.getProblems();
+      result = validateCached(psiAnnotation, psiField).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private ValidationResult validateCached(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiField psiField) {
+    return ValidationCache.getResult(psiAnnotation, getValidationId(), new ValidationCache.Validation() {
+      @Override
+      public boolean validate(@NotNull ProblemBuilder builder) {
+        return AbstractFieldProcessor.this.validate(psiAnnotation, psiField, builder);
+      }
+    });
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiField psiField, @NotNull ProblemBuilder builder);
 
   protected abstract void generatePsiElements(@NotNull PsiField psiField, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target);
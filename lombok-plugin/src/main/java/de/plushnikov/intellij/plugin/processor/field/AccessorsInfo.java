@@ -4,8 +4,7 @@ import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiField;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
-import de.plushnikov.intellij.plugin.lombokconfig.ConfigKeys;
-import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigSnapshot;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
@@ -59,13 +58,18 @@ public class AccessorsInfo {
   }
 
   private static AccessorsInfo buildFromAnnotation(PsiAnnotation accessorsAnnotation, PsiClass psiClass) {
-    final boolean isFluent = AbstractProcessor.readAnnotationOrConfigProperty(accessorsAnnotation, psiClass, "fluent", ConfigKeys.ACCESSORS_FLUENT);
-    final boolean isChained = AbstractProcessor.readAnnotationOrConfigProperty(accessorsAnnotation, psiClass, "chain", ConfigKeys.ACCESSORS_CHAIN);
+    final ConfigSnapshot configSnapshot = ConfigDiscovery.getInstance().getSnapshot(psiClass);
 
-    Boolean chainDeclaredValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(accessorsAnnotation, "chain");
-    Collection<String> prefixes = PsiAnnotationUtil.getAnnotationValues(accessorsAnnotation, "prefix", String.class);
+    final Boolean fluentDeclaredValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(accessorsAnnotation, "fluent");
+    final Boolean chainDeclaredValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(accessorsAnnotation, "chain");
+    final boolean isFluent = null == fluentDeclaredValue ? configSnapshot.isAccessorsFluent() : fluentDeclaredValue;
+    final boolean isChained = null == chainDeclaredValue ? configSnapshot.isAccessorsChain() : chainDeclaredValue;
 
-    final boolean dontUseIsPrefix = ConfigDiscovery.getInstance().getBooleanLombokConfigProperty(ConfigKeys.GETTER_NO_IS_PREFIX, psiClass);
+    // prefixes declared in the annotation replace the configured ones
+    final Collection<String> prefixes = null == accessorsAnnotation.findDeclaredAttributeValue("prefix") ?
+        configSnapshot.getAccessorsPrefix() : PsiAnnotationUtil.getAnnotationValues(accessorsAnnotation, "prefix", String.class);
+
+    final boolean dontUseIsPrefix = configSnapshot.isGetterNoIsPrefix();
 
     boolean isChainDeclaredOrImplicit = isChained || (isFluent && null == chainDeclaredValue);
     return new AccessorsInfo(isFluent, isChainDeclaredOrImplicit, dontUseIsPrefix, prefixes.toArray(new String[prefixes.size()]));
@@ -107,7 +107,7 @@ public class FXPropertyProcessor extends AbstractFieldProcessor {
 		}
 
 	// adds method body
-		method.withBody(PsiMethodUtil.createCodeBlockFromText(createMethodBody(psiField, methodName, method.getParameterList().getParametersCount()), psiClass));
+		method.withBody(createMethodBody(psiField, methodName, method.getParameterList().getParametersCount()), psiClass);
 
 	// copies annotations of psiField to modifierList of method
 		PsiModifierList modifierList = method.getModifierList();
@@ -0,0 +1,96 @@
+package de.plushnikov.intellij.plugin.processor.field;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiTypeParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps getters and setters generated for a field between augment recomputations.
+ * An element of the previous generation is reused as long as all inputs of the generation stay unchanged:
+ * field name, type and annotations, name and type parameters of the containing class and resolved accessors configuration.
+ * Typing in a method body of the class doesn't recreate these accessors anymore.
+ * Other generated members (fields, constructors, builders and so on) are still rebuilt with every recomputation.
+ */
+public class FieldElementCache {
+  private static final Key<ConcurrentMap<String, Generation>> GENERATIONS_KEY = Key.create("LombokFieldElementGenerations");
+
+  private static class Generation {
+    private final String fingerprint;
+    private final PsiMember element;
+
+    private Generation(String fingerprint, PsiMember element) {
+      this.fingerprint = fingerprint;
+      this.element = element;
+    }
+  }
+
+  private FieldElementCache() {
+  }
+
+  /**
+   * Accessors info is passed in, as generators need it themselves. Only the modifier list of the field is taken as text,
+   * arguments of its annotations (onMethod, onParam and so on) shape the generated element
+   */
+  @NotNull
+  public static String buildFingerprint(@NotNull PsiField psiField, @NotNull PsiClass psiClass,
+                                        @NotNull AccessorsInfo accessorsInfo, @NotNull String... additionalInputs) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(psiField.getName()).append('|');
+    builder.append(psiField.getType().getCanonicalText()).append('|');
+
+    final PsiModifierList modifierList = psiField.getModifierList();
+    builder.append(null == modifierList ? "" : modifierList.getText()).append('|');
+
+    builder.append(psiClass.getName());
+    for (PsiTypeParameter typeParameter : psiClass.getTypeParameters()) {
+      builder.append(',').append(typeParameter.getName());
+    }
+    builder.append('|');
+
+    builder.append(accessorsInfo.isFluent()).append(accessorsInfo.isChain()).append(accessorsInfo.isDontUseIsPrefix());
+    for (String prefix : accessorsInfo.getPrefixes()) {
+      builder.append(',').append(prefix);
+    }
+    for (String additionalInput : additionalInputs) {
+      builder.append('|').append(additionalInput);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return element of the previous generation, if it was generated from the same inputs for the same class
+   */
+  @Nullable
+  public static <T extends PsiMember> T getPrevious(@NotNull PsiField psiField, @NotNull PsiClass psiClass,
+                                                    @NotNull String generatorId, @NotNull String fingerprint) {
+    final ConcurrentMap<String, Generation> generations = psiField.getUserData(GENERATIONS_KEY);
+    if (null != generations) {
+      final Generation generation = generations.get(generatorId);
+      if (null != generation && generation.fingerprint.equals(fingerprint) && psiClass == generation.element.getContainingClass()) {
+        //noinspection unchecked
+        return (T) generation.element;
+      }
+    }
+    return null;
+  }
+
+  @NotNull
+  public static <T extends PsiMember> T store(@NotNull PsiField psiField, @NotNull String generatorId,
+                                              @NotNull String fingerprint, @NotNull T element) {
+    ConcurrentMap<String, Generation> generations = psiField.getUserData(GENERATIONS_KEY);
+    if (null == generations) {
+      generations = new ConcurrentHashMap<String, Generation>();
+      psiField.putUserData(GENERATIONS_KEY, generations);
+    }
+    generations.put(generatorId, new Generation(fingerprint, element));
+    return element;
+  }
+}
@@ -32,6 +32,7 @@ import org.jetbrains.annotations.NotNull;
  * @author Plushnikov Michail
  */
 public class GetterFieldProcessor extends AbstractFieldProcessor {
+  private static final String GENERATOR_ID = "getter";
 
   public GetterFieldProcessor() {
     super(Getter.class, PsiMethod.class);
@@ -122,7 +123,14 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
 
   @NotNull
   public PsiMethod createGetterMethod(@NotNull PsiField psiField, @NotNull PsiClass psiClass, @NotNull String methodModifier) {
-    final String methodName = getGetterName(psiField);
+    final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
+    final String fingerprint = FieldElementCache.buildFingerprint(psiField, psiClass, accessorsInfo, methodModifier);
+    final PsiMethod previousMethod = FieldElementCache.getPrevious(psiField, psiClass, GENERATOR_ID, fingerprint);
+    if (null != previousMethod) {
+      return previousMethod;
+    }
+
+    final String methodName = LombokUtils.toGetterName(accessorsInfo, psiField.getName(), PsiType.BOOLEAN.equals(psiField.getType()));
 
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiField.getManager(), methodName)
         .withMethodReturnType(psiField.getType())
@@ -136,13 +144,13 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
       method.withModifier(PsiModifier.STATIC);
     }
 
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(String.format("return %s.%s;", isStatic ? psiClass.getName() : "this", psiField.getName()), psiClass));
+    method.withBody(String.format("return %s.%s;", isStatic ? psiClass.getName() : "this", psiField.getName()), psiClass);
 
     PsiModifierList modifierList = method.getModifierList();
     copyAnnotations(psiField, modifierList,
         LombokUtils.NON_NULL_PATTERN, LombokUtils.NULLABLE_PATTERN, LombokUtils.DEPRECATED_PATTERN);
     addOnXAnnotations(PsiAnnotationUtil.findAnnotation(psiField, Getter.class), modifierList, "onMethod");
-    return method;
+    return FieldElementCache.store(psiField, GENERATOR_ID, fingerprint, method);
   }
 
   @Override
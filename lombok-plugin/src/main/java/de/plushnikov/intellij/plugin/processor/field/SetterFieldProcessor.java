@@ -33,6 +33,7 @@ import org.jetbrains.annotations.NotNull;
  * @author Plushnikov Michail
  */
 public class SetterFieldProcessor extends AbstractFieldProcessor {
+  private static final String GENERATOR_ID = "setter";
 
   public SetterFieldProcessor() {
     this(Setter.class, PsiMethod.class);
@@ -130,11 +131,18 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
 
   @NotNull
   public PsiMethod createSetterMethod(@NotNull PsiField psiField, @NotNull PsiClass psiClass, @NotNull String methodModifier) {
+    final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
+    final String fingerprint = FieldElementCache.buildFingerprint(psiField, psiClass, accessorsInfo, methodModifier);
+    final PsiMethod previousMethod = FieldElementCache.getPrevious(psiField, psiClass, GENERATOR_ID, fingerprint);
+    if (null != previousMethod) {
+      return previousMethod;
+    }
+
     final String fieldName = psiField.getName();
     final PsiType psiFieldType = psiField.getType();
     final PsiAnnotation setterAnnotation = PsiAnnotationUtil.findAnnotation(psiField, Setter.class);
 
-    final String methodName = getSetterName(psiField, PsiType.BOOLEAN.equals(psiFieldType));
+    final String methodName = LombokUtils.toSetterName(accessorsInfo, fieldName, PsiType.BOOLEAN.equals(psiFieldType));
 
     PsiType returnType = getReturnType(psiField);
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiField.getManager(), methodName)
@@ -168,13 +176,13 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
       blockText += "return this;";
     }
 
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(blockText, psiClass);
 
     PsiModifierList methodModifierList = method.getModifierList();
     copyAnnotations(psiField, methodModifierList, LombokUtils.DEPRECATED_PATTERN);
     addOnXAnnotations(setterAnnotation, methodModifierList, "onMethod");
 
-    return method;
+    return FieldElementCache.store(psiField, GENERATOR_ID, fingerprint, method);
   }
 
   protected PsiType getReturnType(@NotNull PsiField psiField) {
@@ -196,7 +196,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
 
       final String paramString = getConstructorCall(psiField, psiFieldContainingClass);
       final String blockText = String.format("return this.%s == %s ? this : new %s(%s);", psiFieldName, psiFieldName, returnType.getCanonicalText(), paramString);
-      result.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiFieldContainingClass));
+      result.withBody(blockText, psiFieldContainingClass);
     }
     return result;
   }
@@ -25,7 +25,6 @@ import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -219,14 +218,14 @@ public class DelegateHandler {
       paramString.deleteCharAt(paramString.length() - 1);
     }
     final boolean isMethodCall = psiElement instanceof PsiMethod;
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(
+    methodBuilder.withBody(
         String.format("%sthis.%s%s.%s(%s);",
             PsiType.VOID.equals(returnType) ? "" : "return ",
             psiElement.getName(),
             isMethodCall ? "()" : "",
             psiMethod.getName(),
             paramString.toString()),
-        psiClass));
+        psiClass);
 
     return methodBuilder;
   }
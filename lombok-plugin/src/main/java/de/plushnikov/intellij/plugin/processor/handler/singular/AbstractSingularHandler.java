@@ -16,7 +16,6 @@ import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
 import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import de.plushnikov.intellij.plugin.util.PsiTypeUtil;
 import lombok.core.handlers.Singulars;
 import org.jetbrains.annotations.NotNull;
@@ -55,7 +54,7 @@ public abstract class AbstractSingularHandler implements BuilderElementHandler {
         .withContainingClass(innerClass)
         .withNavigationElement(psiVariable)
         .withModifier(PsiModifier.PUBLIC)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(getOneMethodBody(singularName, psiFieldName, psiParameterTypes, fluentBuilder), innerClass));
+        .withBody(getOneMethodBody(singularName, psiFieldName, psiParameterTypes, fluentBuilder), innerClass);
 
     addOneMethodParameter(singularName, psiParameterTypes, oneAddMethod);
     methods.add(oneAddMethod);
@@ -65,7 +64,7 @@ public abstract class AbstractSingularHandler implements BuilderElementHandler {
         .withContainingClass(innerClass)
         .withNavigationElement(psiVariable)
         .withModifier(PsiModifier.PUBLIC)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(getAllMethodBody(psiFieldName, psiParameterTypes, fluentBuilder), innerClass));
+        .withBody(getAllMethodBody(psiFieldName, psiParameterTypes, fluentBuilder), innerClass);
 
     addAllMethodParameter(psiFieldName, psiFieldType, allAddMethod);
     methods.add(allAddMethod);
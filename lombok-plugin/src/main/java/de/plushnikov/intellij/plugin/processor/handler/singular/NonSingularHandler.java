@@ -11,7 +11,6 @@ import com.intellij.psi.PsiVariable;
 import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
 import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.MessageFormat;
@@ -37,7 +36,7 @@ public class NonSingularHandler implements BuilderElementHandler {
         .withParameter(psiFieldName, psiVariable.getType())
         .withNavigationElement(psiVariable)
         .withModifier(PsiModifier.PUBLIC)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(getAllMethodBody(psiFieldName, fluentBuilder), innerClass)));
+        .withBody(getAllMethodBody(psiFieldName, fluentBuilder), innerClass));
   }
 
   @Override
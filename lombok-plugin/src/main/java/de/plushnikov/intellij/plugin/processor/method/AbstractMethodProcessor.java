@@ -7,9 +7,9 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
+import de.plushnikov.intellij.plugin.problem.ValidationResult;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
+import de.plushnikov.intellij.plugin.processor.ValidationCache;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +38,7 @@ public abstract class AbstractMethodProcessor extends AbstractProcessor implemen
     for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
       PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiMethod, getSupportedAnnotation());
       if (null != psiAnnotation) {
-        if (validate(psiAnnotation, psiMethod, ProblemEmptyBuilder.getInstance())) {
+        if (validateCached(psiAnnotation, psiMethod).isValid()) {
           processIntern(psiMethod, psiAnnotation, result);
         }
       }
@@ -65,14 +65,22 @@ public abstract class AbstractMethodProcessor extends AbstractProcessor implemen
 
     PsiMethod psiMethod = PsiTreeUtil.getParentOfType(psiAnnotation, PsiMethod.class);
     if (null != psiMethod) {
-      ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder();
-      validate(psiAnnotation, psiMethod, problemNewBuilder);
-      result = problemNewBuilder.getProblems();
+      result = validateCached(psiAnnotation, psiMethod).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private ValidationResult validateCached(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiMethod psiMethod) {
+    return ValidationCache.getResult(psiAnnotation, getValidationId(), new ValidationCache.Validation() {
+      @Override
+      public boolean validate(@NotNull ProblemBuilder builder) {
+        return AbstractMethodProcessor.this.validate(psiAnnotation, psiMethod, builder);
+      }
+    });
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiMethod psiMethod, @NotNull ProblemBuilder builder);
 
   protected abstract void processIntern(PsiMethod psiMethod, PsiAnnotation psiAnnotation, List<? super PsiElement> target);
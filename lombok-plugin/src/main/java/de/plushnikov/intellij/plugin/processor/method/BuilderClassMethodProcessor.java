@@ -36,6 +36,13 @@ public class BuilderClassMethodProcessor extends AbstractMethodProcessor {
     return builderHandler.validate(psiMethod, psiAnnotation, builder);
   }
 
+  @NotNull
+  @Override
+  protected String getValidationId() {
+    // validation of BuilderHandler is shared by builder class and builder method processors
+    return BuilderHandler.class.getName();
+  }
+
   protected void processIntern(@NotNull PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final PsiClass psiClass = psiMethod.getContainingClass();
     if (null != psiClass) {
@@ -7,6 +7,7 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentSnapshot;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +39,13 @@ public class BuilderMethodProcessor extends AbstractMethodProcessor {
     return builderHandler.validate(psiMethod, psiAnnotation, builder);
   }
 
+  @NotNull
+  @Override
+  protected String getValidationId() {
+    // validation of BuilderHandler is shared by builder class and builder method processors
+    return BuilderHandler.class.getName();
+  }
+
   protected void processIntern(@NotNull PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final PsiClass psiClass = psiMethod.getContainingClass();
     if (null != psiClass) {
@@ -46,6 +54,10 @@ public class BuilderMethodProcessor extends AbstractMethodProcessor {
 
       final String builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
       PsiClass builderClass = PsiClassUtil.getInnerClassInternByName(psiClass, builderClassName);
+      if (null == builderClass) {
+        // reuse builder class generated by the same augmentation pass of psiClass
+        builderClass = LombokAugmentSnapshot.findGeneratedInnerClass(psiClass, builderClassName);
+      }
       if (null == builderClass) {
         builderClass = builderHandler.createBuilderClass(psiClass, psiMethod, psiAnnotation);
       }
@@ -0,0 +1,241 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lang.java.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of lombok annotation simple names used inside of every top level java class.
+ * Key is the qualified name of the top level class, value contains all simple names of registered lombok annotations
+ * found on the class itself, on its fields, methods and on all of its inner classes.
+ * <p>
+ * Inner classes are not indexed separately, because some processors (builder inner classes) read annotations
+ * of the enclosing class, so the top level class is the smallest safe unit.
+ * The indexer works on lexer tokens only and doesn't build any PSI.
+ */
+public class LombokAnnotationIndex extends FileBasedIndexExtension<String, Set<String>> {
+  @NonNls
+  public static final ID<String, Set<String>> NAME = ID.create("LombokAnnotationIndex");
+
+  @NotNull
+  @Override
+  public ID<String, Set<String>> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Set<String>, FileContent> getIndexer() {
+    return new DataIndexer<String, Set<String>, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, Set<String>> map(@NotNull FileContent inputData) {
+        return collectAnnotationNames(inputData.getContentAsText(), LombokProcessorProvider.getInstance().getRegisteredAnnotationNames());
+      }
+    };
+  }
+
+  @NotNull
+  static Map<String, Set<String>> collectAnnotationNames(@NotNull CharSequence fileText, @NotNull Collection<String> annotationNames) {
+    final Map<String, Set<String>> result = new HashMap<String, Set<String>>();
+
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(fileText);
+
+    final StringBuilder packageName = new StringBuilder();
+    boolean readPackage = false;
+    boolean readAnnotation = false;
+    boolean readClassName = false;
+    int braceDepth = 0;
+    int parenDepth = 0;
+    String lastIdentifier = null;
+    Set<String> currentClassAnnotations = null;
+    Set<String> pendingAnnotations = new HashSet<String>();
+
+    IElementType tokenType;
+    while ((tokenType = lexer.getTokenType()) != null) {
+      if (!ElementType.JAVA_COMMENT_OR_WHITESPACE_BIT_SET.contains(tokenType)) {
+        final String tokenText = lexer.getTokenText();
+
+        if (readAnnotation && tokenType != JavaTokenType.IDENTIFIER && tokenType != JavaTokenType.DOT) {
+          // end of the (possibly qualified) annotation name
+          readAnnotation = false;
+          if (null != lastIdentifier && annotationNames.contains(lastIdentifier)) {
+            if (braceDepth == 0) {
+              pendingAnnotations.add(lastIdentifier);
+            } else if (null != currentClassAnnotations) {
+              currentClassAnnotations.add(lastIdentifier);
+            }
+          }
+        }
+
+        if (readPackage) {
+          if (tokenType == JavaTokenType.SEMICOLON) {
+            readPackage = false;
+          } else {
+            packageName.append(tokenText);
+          }
+        } else if (readClassName) {
+          if (tokenType == JavaTokenType.IDENTIFIER) {
+            final String className = packageName.length() == 0 ? tokenText : packageName + "." + tokenText;
+            currentClassAnnotations = pendingAnnotations;
+            pendingAnnotations = new HashSet<String>();
+            result.put(className, currentClassAnnotations);
+          }
+          readClassName = false;
+        } else if (tokenType == JavaTokenType.AT && parenDepth == 0) {
+          readAnnotation = true;
+          lastIdentifier = null;
+        } else if (readAnnotation) {
+          if (tokenType == JavaTokenType.IDENTIFIER) {
+            lastIdentifier = tokenText;
+          }
+        } else if (tokenType == JavaTokenType.PACKAGE_KEYWORD && braceDepth == 0) {
+          readPackage = true;
+        } else if (tokenType == JavaTokenType.LPARENTH) {
+          parenDepth++;
+        } else if (tokenType == JavaTokenType.RPARENTH) {
+          parenDepth = Math.max(0, parenDepth - 1);
+        } else if (parenDepth == 0) {
+          if (tokenType == JavaTokenType.LBRACE) {
+            braceDepth++;
+          } else if (tokenType == JavaTokenType.RBRACE) {
+            braceDepth = Math.max(0, braceDepth - 1);
+          } else if (braceDepth == 0 && (tokenType == JavaTokenType.CLASS_KEYWORD || tokenType == JavaTokenType.INTERFACE_KEYWORD || tokenType == JavaTokenType.ENUM_KEYWORD)) {
+            readClassName = true;
+          }
+        }
+      }
+      lexer.advance();
+    }
+    return result;
+  }
+
+  /**
+   * Checks index data for the top level class containing psiClass.
+   * The answer is cached on the top level class until its file changes, so repeated calls don't query the index
+   *
+   * @param psiClass class to check
+   * @return true only if index knows the class and there is definitely no lombok annotation in it, false otherwise
+   */
+  public static boolean isAnnotationFree(@NotNull PsiClass psiClass) {
+    final PsiFile psiFile = psiClass.getContainingFile();
+    if (null == psiFile || !psiFile.isPhysical()) {
+      return false;
+    }
+    final VirtualFile virtualFile = psiFile.getVirtualFile();
+    if (null == virtualFile) {
+      return false;
+    }
+    final PsiClass topLevelClass = PsiUtil.getTopLevelClass(psiClass);
+    if (null == topLevelClass) {
+      return false;
+    }
+
+    return CachedValuesManager.getCachedValue(topLevelClass, new CachedValueProvider<Boolean>() {
+      @Nullable
+      @Override
+      public Result<Boolean> compute() {
+        return Result.create(isAnnotationFreeIntern(topLevelClass, virtualFile), psiFile);
+      }
+    });
+  }
+
+  private static boolean isAnnotationFreeIntern(@NotNull PsiClass topLevelClass, @NotNull VirtualFile virtualFile) {
+    final String qualifiedName = topLevelClass.getQualifiedName();
+    if (null == qualifiedName) {
+      return false;
+    }
+
+    final List<Set<String>> values = FileBasedIndex.getInstance().getValues(NAME, qualifiedName,
+        GlobalSearchScope.fileScope(topLevelClass.getProject(), virtualFile));
+    if (values.isEmpty()) {
+      return false;
+    }
+    for (Set<String> annotationNames : values) {
+      if (!annotationNames.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<Set<String>> getValueExternalizer() {
+    return new DataExternalizer<Set<String>>() {
+      @Override
+      public void save(@NotNull DataOutput out, Set<String> value) throws IOException {
+        out.writeInt(value.size());
+        for (String annotationName : value) {
+          out.writeUTF(annotationName);
+        }
+      }
+
+      @Override
+      public Set<String> read(@NotNull DataInput in) throws IOException {
+        final int size = in.readInt();
+        final Set<String> result = new HashSet<String>(size);
+        for (int i = 0; i < size; i++) {
+          result.add(in.readUTF());
+        }
+        return result;
+      }
+    };
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+}
@@ -4,6 +4,7 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
@@ -13,14 +14,15 @@ import com.intellij.psi.augment.PsiAugmentProvider;
 import com.intellij.psi.impl.source.PsiExtensibleClass;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
-import de.plushnikov.intellij.plugin.processor.Processor;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil;
+import de.plushnikov.intellij.plugin.lombokconfig.LombokConfigModificationTracker;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
 import de.plushnikov.intellij.plugin.settings.ProjectSettings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -70,57 +72,57 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
 
     final PsiClass psiClass = (PsiClass) element;
 
-    if (type == PsiField.class) {
-      return CachedValuesManager.getCachedValue(element, new FieldLombokCachedValueProvider<Psi>(type, psiClass));
-    } else if (type == PsiMethod.class) {
-      return CachedValuesManager.getCachedValue(element, new MethodLombokCachedValueProvider<Psi>(type, psiClass));
-    } else if (type == PsiClass.class) {
-      return CachedValuesManager.getCachedValue(element, new ClassLombokCachedValueProvider<Psi>(type, psiClass));
-    } else {
+    // skip processing of classes without any lombok annotation, extension method receivers don't need one
+    if (LombokAnnotationIndex.isAnnotationFree(psiClass) && !ExtensionMethodUtil.isExtensible(psiClass)) {
       return emptyResult;
     }
-  }
 
-  private static class FieldLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    public FieldLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass);
+    if (type != PsiField.class && type != PsiMethod.class && type != PsiClass.class) {
+      return emptyResult;
     }
-  }
 
-  private static class MethodLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    public MethodLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass);
+    // processors of the class request other generated elements of the same class, answer them from the computed part
+    final LombokAugmentSnapshot inProgress = LombokAugmentSnapshot.getInProgress(psiClass);
+    if (null != inProgress) {
+      final List<Psi> computed = inProgress.getElements(type);
+      return null != computed ? computed : inProgress.computeDirectly(psiClass, type);
     }
-  }
 
-  private static class ClassLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    public ClassLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass);
-    }
+    final List<Psi> result = CachedValuesManager.getCachedValue(element, new LombokCachedValueProvider(psiClass)).getElements(type);
+    return null != result ? result : emptyResult;
   }
 
-  private static class LombokCachedValueProvider<Psi extends PsiElement> implements CachedValueProvider<List<Psi>> {
-    private final Class<Psi> type;
+  private static class LombokCachedValueProvider implements CachedValueProvider<LombokAugmentSnapshot> {
     private final PsiClass psiClass;
 
-    public LombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      this.type = type;
+    public LombokCachedValueProvider(PsiClass psiClass) {
       this.psiClass = psiClass;
     }
 
     @Nullable
     @Override
-    public Result<List<Psi>> compute() {
+    public Result<LombokAugmentSnapshot> compute() {
       if (log.isDebugEnabled()) {
-        log.debug(String.format("Process call for type: %s class: %s", type, psiClass.getQualifiedName()));
+        log.debug(String.format("Process call for class: %s", psiClass.getQualifiedName()));
       }
+      return new Result<LombokAugmentSnapshot>(LombokAugmentSnapshot.compute(psiClass), getDependencies(psiClass));
+    }
+  }
 
-      final List<Psi> result = new ArrayList<Psi>();
-      final Collection<Processor> lombokProcessors = LombokProcessorProvider.getInstance().getLombokProcessors(type);
-      for (Processor processor : lombokProcessors) {
-        result.addAll((Collection<Psi>) processor.process(psiClass));
-      }
-      return new Result<List<Psi>>(result, psiClass);
+  /**
+   * Generated elements depend only on the java structure of the code (fields, signatures, annotations) and lombok configuration
+   * of the directory of the class, so changes inside of method bodies, of non java files or of config files in other directories don't invalidate them.
+   * Extension methods depend on @ExtensionMethod scopes, which change only together with the java structure.
+   * Local and anonymous classes are part of a code block themselves, so they still depend on the class itself
+   */
+  @NotNull
+  public static Object[] getDependencies(@NotNull PsiClass psiClass) {
+    if (!psiClass.isPhysical() || null != PsiTreeUtil.getContextOfType(psiClass, PsiCodeBlock.class, true)) {
+      return new Object[]{psiClass};
     }
+    final Project project = psiClass.getProject();
+    return new Object[]{
+        PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+        LombokConfigModificationTracker.getInstance(project).getTracker(psiClass)};
   }
 }
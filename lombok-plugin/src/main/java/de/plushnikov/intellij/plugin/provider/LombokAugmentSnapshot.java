@@ -0,0 +1,175 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All elements generated by lombok for one class: fields, inner classes and methods, computed together in one pass.
+ * <p>
+ * Processors of one kind often need generated elements of another kind of the same class
+ * (constructors and builder read generated fields, builder methods use the generated builder class),
+ * so the kinds are computed in fixed order: fields, inner classes, methods.
+ * Requests for the class being computed on the current thread are answered from already computed kinds,
+ * a not yet computed kind is produced on demand and kept in the snapshot, so it is not computed again in its turn.
+ * A kind requested again while it is being computed on the same thread gets an empty list instead of endless recursion,
+ * results depending on such a partial answer are not kept.
+ */
+public class LombokAugmentSnapshot {
+  private static final ThreadLocal<Map<PsiClass, LombokAugmentSnapshot>> IN_PROGRESS = new ThreadLocal<Map<PsiClass, LombokAugmentSnapshot>>() {
+    @Override
+    protected Map<PsiClass, LombokAugmentSnapshot> initialValue() {
+      return new HashMap<PsiClass, LombokAugmentSnapshot>();
+    }
+  };
+
+  private volatile List<PsiElement> fields;
+  private volatile List<PsiElement> innerClasses;
+  private volatile List<PsiElement> methods;
+
+  // accessed only by the computing thread
+  private final Set<String> presentAnnotations;
+  private final Set<Class<? extends PsiElement>> computingKinds = new HashSet<Class<? extends PsiElement>>();
+  private int recursionCount;
+
+  private LombokAugmentSnapshot(@NotNull Set<String> presentAnnotations) {
+    this.presentAnnotations = presentAnnotations;
+  }
+
+  @NotNull
+  static LombokAugmentSnapshot compute(@NotNull PsiClass psiClass) {
+    final LombokAugmentSnapshot snapshot = new LombokAugmentSnapshot(LombokProcessorProvider.getInstance().collectLombokAnnotations(psiClass));
+    final Map<PsiClass, LombokAugmentSnapshot> inProgress = IN_PROGRESS.get();
+    inProgress.put(psiClass, snapshot);
+    try {
+      snapshot.getOrCompute(psiClass, PsiField.class, true);
+      snapshot.getOrCompute(psiClass, PsiClass.class, true);
+      snapshot.getOrCompute(psiClass, PsiMethod.class, true);
+    } finally {
+      inProgress.remove(psiClass);
+    }
+    return snapshot;
+  }
+
+  /**
+   * @return snapshot of psiClass currently computed on this thread, or null
+   */
+  @Nullable
+  static LombokAugmentSnapshot getInProgress(@NotNull PsiClass psiClass) {
+    return IN_PROGRESS.get().get(psiClass);
+  }
+
+  /**
+   * Generates elements of one kind for psiClass, requested by a processor while the snapshot is computed on this thread.
+   * The result is kept in the snapshot, unless it depends on a kind which was still in computation
+   */
+  @NotNull
+  <Psi extends PsiElement> List<Psi> computeDirectly(@NotNull PsiClass psiClass, @NotNull Class<Psi> type) {
+    //noinspection unchecked
+    return (List<Psi>) getOrCompute(psiClass, type, false);
+  }
+
+  /**
+   * @param isOwnTurn true, if the kind is computed in its turn by {@link #compute(PsiClass)}, then the result is kept in any case
+   */
+  @NotNull
+  private List<PsiElement> getOrCompute(@NotNull PsiClass psiClass, @NotNull Class<? extends PsiElement> type, boolean isOwnTurn) {
+    final List<PsiElement> computed = getElements(type);
+    if (null != computed) {
+      return computed;
+    }
+    if (!computingKinds.add(type)) {
+      recursionCount++;
+      return Collections.emptyList();
+    }
+    final int previousRecursionCount = recursionCount;
+    try {
+      final List<PsiElement> result = process(psiClass, LombokProcessorProvider.getInstance().getLombokProcessors(presentAnnotations, type));
+      if (isOwnTurn || previousRecursionCount == recursionCount) {
+        setElements(type, result);
+      }
+      return result;
+    } finally {
+      computingKinds.remove(type);
+    }
+  }
+
+  private void setElements(@NotNull Class<? extends PsiElement> type, @NotNull List<PsiElement> elements) {
+    if (type == PsiField.class) {
+      fields = elements;
+    } else if (type == PsiMethod.class) {
+      methods = elements;
+    } else if (type == PsiClass.class) {
+      innerClasses = elements;
+    }
+  }
+
+  /**
+   * Searches inner class generated for psiClass in the snapshot currently computed on this thread.
+   * Allows method processors to reuse the inner class instance instead of building it again.
+   *
+   * @return generated inner class with given name or null, if there is no such class or inner classes are not computed yet
+   */
+  @Nullable
+  public static PsiClass findGeneratedInnerClass(@NotNull PsiClass psiClass, @NotNull String innerClassName) {
+    final LombokAugmentSnapshot snapshot = getInProgress(psiClass);
+    final List<PsiElement> innerClasses = null == snapshot ? null : snapshot.innerClasses;
+    if (null != innerClasses) {
+      for (PsiElement innerClass : innerClasses) {
+        if (innerClass instanceof PsiClass && innerClassName.equals(((PsiClass) innerClass).getName())) {
+          return (PsiClass) innerClass;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return generated elements of given kind or null, if they are not computed yet
+   */
+  @Nullable
+  <Psi extends PsiElement> List<Psi> getElements(@NotNull Class<? extends PsiElement> type) {
+    final List<PsiElement> result;
+    if (type == PsiField.class) {
+      result = fields;
+    } else if (type == PsiMethod.class) {
+      result = methods;
+    } else if (type == PsiClass.class) {
+      result = innerClasses;
+    } else {
+      result = Collections.emptyList();
+    }
+    //noinspection unchecked
+    return (List<Psi>) result;
+  }
+
+  @NotNull
+  private static List<PsiElement> process(@NotNull PsiClass psiClass, @NotNull Collection<Processor> processors) {
+    if (processors.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<PsiElement> result = new ArrayList<PsiElement>();
+    for (Processor processor : processors) {
+      final long start = LombokMetrics.start();
+      //noinspection unchecked
+      final Collection<PsiElement> generatedElements = (Collection<PsiElement>) processor.process(psiClass);
+      LombokMetrics.stop(LombokMetrics.PROCESS, processor, start, generatedElements.size());
+      result.addAll(generatedElements);
+    }
+    return result;
+  }
+}
@@ -7,10 +7,13 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
 import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
+import de.plushnikov.intellij.plugin.handler.ExtensionMethodUtil;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import lombok.experimental.ExtensionMethod;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.Annotation;
@@ -20,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class LombokProcessorProvider {
   private static LombokProcessorProvider ourInstance = new LombokProcessorProvider();
@@ -71,6 +75,11 @@ public class LombokProcessorProvider {
     return result == null ? Collections.<Processor>emptySet() : result;
   }
 
+  @NotNull
+  public Collection<String> getRegisteredAnnotationNames() {
+    return Collections.unmodifiableCollection(registeredAnnotationNames);
+  }
+
   @NotNull
   public Collection<Processor> getProcessors(@NotNull PsiAnnotation psiAnnotation) {
     final String qualifiedName = psiAnnotation.getQualifiedName();
@@ -78,6 +87,91 @@ public class LombokProcessorProvider {
     return result == null ? Collections.<Processor>emptySet() : result;
   }
 
+  /**
+   * Dispatches processors for the given class: scans annotations of the class once
+   * and returns only processors of requested type, whose supported annotation is present
+   *
+   * @param psiClass       class to process
+   * @param supportedClass kind of output elements
+   * @return applicable processors in registration order
+   */
+  @NotNull
+  public Collection<Processor> getLombokProcessors(@NotNull PsiClass psiClass, @NotNull Class supportedClass) {
+    final Collection<Processor> typeProcessors = getLombokProcessors(supportedClass);
+    if (typeProcessors.isEmpty()) {
+      return typeProcessors;
+    }
+
+    return getLombokProcessors(collectLombokAnnotations(psiClass), supportedClass);
+  }
+
+  /**
+   * @param presentAnnotations qualified names of lombok annotations collected by {@link #collectLombokAnnotations(PsiClass)}
+   * @param supportedClass     kind of output elements
+   * @return processors of presentAnnotations in registration order
+   */
+  @NotNull
+  Collection<Processor> getLombokProcessors(@NotNull Set<String> presentAnnotations, @NotNull Class supportedClass) {
+    final Collection<Processor> typeProcessors = getLombokProcessors(supportedClass);
+    if (typeProcessors.isEmpty() || presentAnnotations.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Collection<Processor> result = new ArrayList<Processor>();
+    for (Processor processor : typeProcessors) {
+      if (presentAnnotations.contains(processor.getSupportedAnnotation())) {
+        result.add(processor);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Collects qualified names of all registered lombok annotations, which can trigger processing of the class:
+   * annotations of the class, its fields and methods and the same for the parent class (used by builder inner classes)
+   */
+  @NotNull
+  Set<String> collectLombokAnnotations(@NotNull PsiClass psiClass) {
+    final Set<String> result = new HashSet<String>();
+    collectLombokAnnotationsIntern(psiClass, result);
+
+    final PsiElement psiClassParent = psiClass.getParent();
+    if (psiClassParent instanceof PsiClass) {
+      collectLombokAnnotationsIntern((PsiClass) psiClassParent, result);
+    }
+
+    // Extension methods are generated for receiver classes, which are not annotated themselves
+    if (ExtensionMethodUtil.isExtensible(psiClass)) {
+      result.add(ExtensionMethod.class.getName());
+    }
+    return result;
+  }
+
+  private void collectLombokAnnotationsIntern(@NotNull PsiClass psiClass, @NotNull Set<String> target) {
+    addLombokAnnotations(psiClass, target);
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+      addLombokAnnotations(psiField, target);
+    }
+    for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+      addLombokAnnotations(psiMethod, target);
+    }
+  }
+
+  private void addLombokAnnotations(@NotNull PsiModifierListOwner psiModifierListOwner, @NotNull Set<String> target) {
+    final PsiModifierList psiModifierList = psiModifierListOwner.getModifierList();
+    if (null != psiModifierList) {
+      for (PsiAnnotation psiAnnotation : psiModifierList.getAnnotations()) {
+        // check simple name first, to avoid resolving of foreign annotations
+        if (registeredAnnotationNames.contains(PsiAnnotationUtil.getSimpleNameOf(psiAnnotation))) {
+          final String qualifiedName = psiAnnotation.getQualifiedName();
+          if (null != qualifiedName) {
+            target.add(qualifiedName);
+          }
+        }
+      }
+    }
+  }
+
   public boolean verifyLombokAnnotationPresent(@NotNull PsiClass psiClass) {
     if (PsiAnnotationUtil.checkAnnotationsSimpleNameExistsIn(psiClass, registeredAnnotationNames)) {
       return true;
@@ -24,6 +24,7 @@ import com.intellij.psi.impl.light.LightModifierList;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.StringBuilderSpinAllocator;
 import de.plushnikov.intellij.plugin.icon.LombokIcons;
+import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import de.plushnikov.intellij.plugin.util.ReflectionUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -35,7 +36,9 @@ import org.jetbrains.annotations.Nullable;
 public class LombokLightMethodBuilder extends LightMethodBuilder {
   private final LombokLightReferenceListBuilder myThrowsList;
   private ASTNode myASTNode;
-  private PsiCodeBlock myBodyCodeBlock;
+  private volatile PsiCodeBlock myBodyCodeBlock;
+  private String myBodyText;
+  private PsiClass myBodyContext;
 
   public LombokLightMethodBuilder(@NotNull PsiManager manager, @NotNull String name) {
     super(manager, JavaLanguage.INSTANCE, name,
@@ -119,12 +122,33 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
 
   public LombokLightMethodBuilder withBody(@NotNull PsiCodeBlock codeBlock) {
     myBodyCodeBlock = codeBlock;
+    myBodyText = null;
+    myBodyContext = null;
+    return this;
+  }
+
+  /**
+   * Sets method body as text, it will be parsed only on first call of {@link #getBody()}
+   *
+   * @param blockText text of body statements without surrounding braces
+   * @param context   class used as context for parsing of the body
+   * @return this builder
+   */
+  public LombokLightMethodBuilder withBody(@NotNull String blockText, @NotNull PsiClass context) {
+    myBodyCodeBlock = null;
+    myBodyText = blockText;
+    myBodyContext = context;
     return this;
   }
 
   @Override
   public PsiCodeBlock getBody() {
-    return myBodyCodeBlock;
+    PsiCodeBlock result = myBodyCodeBlock;
+    if (null == result && null != myBodyText) {
+      result = PsiMethodUtil.createCodeBlockFromText(myBodyText, myBodyContext);
+      myBodyCodeBlock = result;
+    }
+    return result;
   }
 
   @Override
@@ -267,6 +291,11 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     if (returnType != null ? !returnType.equals(thatReturnType) : thatReturnType != null) {
       return false;
     }
+    final PsiElement sourceElement = getSourceElement();
+    final PsiElement thatSourceElement = that.getSourceElement();
+    if (sourceElement != null ? !sourceElement.equals(thatSourceElement) : thatSourceElement != null) {
+      return false;
+    }
 
     return true;
   }
@@ -274,7 +303,26 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
   @Override
   public int hashCode() {
     // should be constant because of RenameJavaMethodProcessor#renameElement and fixNameCollisionsWithInnerClassMethod(...)
-    return 1;
+    // so the name, changed by setName(...), is not part of it; all other parts are compared by equals(...) too.
+    // The source element (field of an accessor and so on) keeps accessors with equal signatures apart
+    final PsiClass containingClass = getContainingClass();
+    final PsiType returnType = getReturnType();
+    final PsiElement sourceElement = getSourceElement();
+    int result = isConstructor() ? 1 : 0;
+    result = 31 * result + getParameterList().hashCode();
+    result = 31 * result + (null != returnType ? returnType.hashCode() : 0);
+    result = 31 * result + (null != containingClass ? containingClass.hashCode() : 0);
+    result = 31 * result + (null != sourceElement ? sourceElement.hashCode() : 0);
+    return result;
+  }
+
+  /**
+   * @return element the method was generated from (set as navigation element), it is not changed by renaming of the method
+   */
+  @Nullable
+  private PsiElement getSourceElement() {
+    final PsiElement navigationElement = getNavigationElement();
+    return navigationElement == this ? null : navigationElement;
   }
 
   @Override
@@ -0,0 +1,166 @@
+package de.plushnikov.intellij.plugin.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in instrumentation of the plugin: invocation counts, cumulative and p99 time and generated element counts
+ * per instrumented operation. Disabled by default, can be enabled by system property "lombok.plugin.metrics"
+ * or by internal action. While disabled every instrumented call costs only one flag check.
+ * <p>
+ * Usage:
+ * <pre>
+ *   final long start = LombokMetrics.start();
+ *   ...
+ *   LombokMetrics.stop(LombokMetrics.PROCESS, processor, start, result.size());
+ * </pre>
+ */
+public class LombokMetrics {
+  public static final String PROCESS = "process";
+  public static final String VERIFY_ANNOTATION = "verifyAnnotation";
+  public static final String CONFIG_DISCOVERY = "configDiscovery";
+  public static final String HIGHLIGHT_FILTER = "highlightErrorFilter";
+
+  private static volatile boolean enabled = Boolean.getBoolean("lombok.plugin.metrics");
+
+  private static final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<String, Metric>();
+
+  private LombokMetrics() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    if (enabled && !LombokMetrics.enabled) {
+      reset();
+    }
+    LombokMetrics.enabled = enabled;
+  }
+
+  public static void reset() {
+    metrics.clear();
+  }
+
+  /**
+   * @return start timestamp, or 0 if instrumentation is disabled
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records one invocation, does nothing if instrumentation was disabled at start
+   *
+   * @param operation kind of instrumented operation
+   * @param subject   instance doing the operation, metrics are grouped by its class
+   * @param start     value returned from {@link #start()}
+   * @param elements  count of generated or produced elements
+   */
+  public static void stop(@NotNull String operation, @NotNull Object subject, long start, int elements) {
+    if (0 != start) {
+      final long duration = System.nanoTime() - start;
+      final String name = operation + ':' + subject.getClass().getSimpleName();
+
+      Metric metric = metrics.get(name);
+      if (null == metric) {
+        final Metric newMetric = new Metric(name);
+        metric = metrics.putIfAbsent(name, newMetric);
+        if (null == metric) {
+          metric = newMetric;
+        }
+      }
+      metric.record(duration, elements);
+    }
+  }
+
+  /**
+   * @return invocation counts of the operation, keyed by simple class name of the subject
+   */
+  @NotNull
+  public static Map<String, Long> getInvocationCounts(@NotNull String operation) {
+    final String prefix = operation + ':';
+    final Map<String, Long> result = new HashMap<String, Long>();
+    for (Metric metric : metrics.values()) {
+      if (metric.name.startsWith(prefix)) {
+        result.put(metric.name.substring(prefix.length()), metric.count.get());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return tab separated report, one line per instrumented operation, sorted by cumulative time
+   */
+  @NotNull
+  public static String createReport() {
+    final List<Metric> sortedMetrics = new ArrayList<Metric>(metrics.values());
+    Collections.sort(sortedMetrics, new Comparator<Metric>() {
+      @Override
+      public int compare(Metric first, Metric second) {
+        final long firstTotal = first.totalNanos.get();
+        final long secondTotal = second.totalNanos.get();
+        return firstTotal < secondTotal ? 1 : (firstTotal == secondTotal ? 0 : -1);
+      }
+    });
+
+    final StringBuilder builder = new StringBuilder();
+    builder.append("operation\tcount\ttotal_ms\tp99_ms\telements\n");
+    for (Metric metric : sortedMetrics) {
+      builder.append(metric.name).append('\t')
+          .append(metric.count.get()).append('\t')
+          .append(String.format(Locale.ENGLISH, "%.3f", metric.totalNanos.get() / 1000000.0)).append('\t')
+          .append(String.format(Locale.ENGLISH, "%.3f", metric.getPercentile(0.99) / 1000000.0)).append('\t')
+          .append(metric.elements.get()).append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static class Metric {
+    // last durations are used to estimate the percentile
+    private static final int SAMPLES_SIZE = 1024;
+
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong elements = new AtomicLong();
+    private final long[] samples = new long[SAMPLES_SIZE];
+
+    private Metric(String name) {
+      this.name = name;
+    }
+
+    private void record(long duration, int elementCount) {
+      final long index = count.getAndIncrement();
+      totalNanos.addAndGet(duration);
+      elements.addAndGet(elementCount);
+      synchronized (samples) {
+        samples[(int) (index % SAMPLES_SIZE)] = duration;
+      }
+    }
+
+    private long getPercentile(double percentile) {
+      final long[] sorted;
+      synchronized (samples) {
+        sorted = Arrays.copyOf(samples, (int) Math.min(count.get(), SAMPLES_SIZE));
+      }
+      if (sorted.length == 0) {
+        return 0;
+      }
+      Arrays.sort(sorted);
+      return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+  }
+}
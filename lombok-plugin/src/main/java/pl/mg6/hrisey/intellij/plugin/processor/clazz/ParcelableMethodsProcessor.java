@@ -12,7 +12,6 @@ import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import hrisey.Parcelable;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,7 +39,7 @@ public class ParcelableMethodsProcessor extends AbstractClassProcessor {
     return new LombokLightMethodBuilder(psiClass.getManager(), "describeContents")
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.INT)
-        .withBody(PsiMethodUtil.createCodeBlockFromText("return 0;", psiClass))
+        .withBody("return 0;", psiClass)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation);
   }
@@ -0,0 +1,15 @@
+@lombok.Data
+public class Calculator {
+  private int first;
+  private int second;
+
+  public int su<caret>m() {
+    return getFirst() + getSecond();
+  }
+
+  public class Printer {
+    public String print() {
+      return "Sum: " + sum();
+    }
+  }
+}
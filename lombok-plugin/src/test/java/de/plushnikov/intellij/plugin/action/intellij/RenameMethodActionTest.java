@@ -0,0 +1,86 @@
+package de.plushnikov.intellij.plugin.action.intellij;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Rename of methods in classes with lombok generated methods, RenameJavaMethodProcessor puts all of them in hash based collections
+ */
+public class RenameMethodActionTest extends LombokLightCodeInsightTestCase {
+
+  @Override
+  protected String getBasePath() {
+    return super.getBasePath() + "/action/intellij";
+  }
+
+  protected void doTest(String newName) throws Exception {
+    myFixture.configureByFile(getBasePath() + "/before" + getTestName(false) + ".java");
+
+    PsiElement psiElement = myFixture.getFile().findElementAt(myFixture.getEditor().getCaretModel().getOffset());
+    PsiElement psiMethod = PsiTreeUtil.getContextOfType(psiElement, PsiMethod.class, true);
+    myFixture.renameElement(psiMethod, newName);
+
+    checkResultByFile(getBasePath() + "/after" + getTestName(false) + ".java");
+  }
+
+  public void testDataMethodRenamed() throws Exception {
+    doTest("calculateSum");
+  }
+
+  public void testGeneratedMethodHashCodeStableOnRename() throws Exception {
+    final PsiClass psiClass = myFixture.addClass("@lombok.Data public class Account { private int balance; }");
+
+    boolean generatedMethodFound = false;
+    for (PsiMethod psiMethod : psiClass.getMethods()) {
+      if (psiMethod instanceof LombokLightMethodBuilder) {
+        generatedMethodFound = true;
+        final int hashCode = psiMethod.hashCode();
+        psiMethod.setName(psiMethod.getName() + "Renamed");
+        assertEquals(hashCode, psiMethod.hashCode());
+      }
+    }
+    assertTrue(generatedMethodFound);
+  }
+
+  public void testRenamedMethodHashCodeConsistentWithEquals() throws Exception {
+    final PsiClass psiClass = myFixture.addClass("public class Holder {}");
+
+    final LombokLightMethodBuilder renamedMethod = new LombokLightMethodBuilder(myFixture.getPsiManager(), "first")
+        .withContainingClass(psiClass).withMethodReturnType(PsiType.INT).withParameter("value", PsiType.INT);
+    final LombokLightMethodBuilder otherMethod = new LombokLightMethodBuilder(myFixture.getPsiManager(), "second")
+        .withContainingClass(psiClass).withMethodReturnType(PsiType.INT).withParameter("value", PsiType.INT);
+    assertFalse(renamedMethod.equals(otherMethod));
+
+    renamedMethod.setName("second");
+    assertEquals(renamedMethod, otherMethod);
+    assertEquals(renamedMethod.hashCode(), otherMethod.hashCode());
+  }
+
+  public void testAccessorsWithEqualSignaturesHaveDistinctHashCodes() throws Exception {
+    final StringBuilder classText = new StringBuilder("@lombok.Getter @lombok.Setter public class Accessors {\n");
+    for (int i = 0; i < 20; i++) {
+      classText.append("  private String value").append(i).append(";\n");
+    }
+    final PsiClass psiClass = myFixture.addClass(classText.append("}").toString());
+
+    final Set<Integer> hashCodes = new HashSet<Integer>();
+    int methodCount = 0;
+    for (PsiMethod psiMethod : psiClass.getMethods()) {
+      if (psiMethod instanceof LombokLightMethodBuilder) {
+        hashCodes.add(psiMethod.hashCode());
+        methodCount++;
+      }
+    }
+    assertEquals(40, methodCount);
+    // getters of all fields share the signature "String ()", setters "void (String)", only the source field keeps them apart
+    assertEquals(methodCount, hashCodes.size());
+  }
+}
@@ -0,0 +1,164 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentProvider;
+import de.plushnikov.intellij.plugin.util.LombokMetrics;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measures throughput of lombok augmentation on synthetic classes with 10 to 2000 annotated fields.
+ * <p>
+ * Not a part of the regular test run (name doesn't match *Test*), start it explicitly.
+ * Results are written as tab separated values to the file given by system property "lombok.benchmark.output"
+ * (default: augmentation-benchmark.tsv in the build directory of the module, next to the compiled test classes), one line per scenario and processor,
+ * so results of two commits can be compared with any diff tool.
+ * <p>
+ * Columns: annotation, field count, processor ("*" for the whole class), cold time of the first computation,
+ * average warm time of a cached request, bytes allocated by the cold computation (empty if not supported by the JVM),
+ * processor invocations and cache hit ratio of warm requests.
+ */
+public class AugmentationBenchmark extends LombokLightCodeInsightTestCase {
+  private static final int[] FIELD_COUNTS = {10, 100, 500, 1000, 2000};
+  private static final String[] ANNOTATIONS = {"@lombok.Data", "@lombok.Getter @lombok.Setter", "@lombok.Value", "@lombok.Builder"};
+  private static final int WARM_ITERATIONS = 50;
+
+  private static final String HEADER = "annotation\tfields\tprocessor\tcold_ms\twarm_us\tallocated_bytes\tprocess_calls\tcache_hit_ratio\n";
+
+  private final LombokAugmentProvider augmentProvider = new LombokAugmentProvider();
+  private int classCounter;
+
+  public void testAugmentationThroughput() throws IOException {
+    final StringBuilder report = new StringBuilder(HEADER);
+
+    LombokMetrics.setEnabled(true);
+    try {
+      for (String annotation : ANNOTATIONS) {
+        for (int fieldCount : FIELD_COUNTS) {
+          measure(annotation, fieldCount, report);
+        }
+      }
+    } finally {
+      LombokMetrics.setEnabled(false);
+    }
+
+    final String outputPath = System.getProperty("lombok.benchmark.output");
+    final File outputFile = null != outputPath ? new File(outputPath) : new File(getBuildDirectory(), "augmentation-benchmark.tsv");
+    FileUtil.writeToFile(outputFile, report.toString());
+  }
+
+  /**
+   * @return build directory of the module, parent of the directory with compiled test classes (target/test-classes)
+   */
+  private static File getBuildDirectory() {
+    final String testClassesPath = PathManager.getJarPathForClass(AugmentationBenchmark.class);
+    final File testClassesDirectory = null == testClassesPath ? null : new File(testClassesPath);
+    if (null == testClassesDirectory || null == testClassesDirectory.getParentFile()) {
+      return new File(FileUtil.getTempDirectory());
+    }
+    return testClassesDirectory.getParentFile();
+  }
+
+  private void measure(String annotation, int fieldCount, StringBuilder report) {
+    final PsiClass psiClass = myFixture.addClass(createClassText(annotation, fieldCount));
+
+    PsiManager.getInstance(getProject()).dropPsiCaches();
+    LombokMetrics.reset();
+
+    final long allocatedBefore = getAllocatedBytes();
+    long start = System.nanoTime();
+    computeAugments(psiClass);
+    final long coldNanos = System.nanoTime() - start;
+    final long allocatedBytes = allocatedBefore < 0 ? -1 : getAllocatedBytes() - allocatedBefore;
+    final Map<String, Long> coldCalls = LombokMetrics.getInvocationCounts(LombokMetrics.PROCESS);
+
+    start = System.nanoTime();
+    for (int i = 0; i < WARM_ITERATIONS; i++) {
+      computeAugments(psiClass);
+    }
+    final long warmNanos = (System.nanoTime() - start) / WARM_ITERATIONS;
+    final Map<String, Long> allCalls = new TreeMap<String, Long>(LombokMetrics.getInvocationCounts(LombokMetrics.PROCESS));
+
+    long totalCalls = 0;
+    long totalWarmCalls = 0;
+    for (Map.Entry<String, Long> entry : allCalls.entrySet()) {
+      final long warmCalls = entry.getValue() - getOrZero(coldCalls, entry.getKey());
+      totalCalls += entry.getValue();
+      totalWarmCalls += warmCalls;
+      appendLine(report, annotation, fieldCount, entry.getKey(), -1, -1, -1, entry.getValue(), calcHitRatio(warmCalls));
+    }
+    appendLine(report, annotation, fieldCount, "*", coldNanos, warmNanos, allocatedBytes, totalCalls,
+        calcHitRatio(allCalls.isEmpty() ? 0 : (double) totalWarmCalls / allCalls.size()));
+  }
+
+  private void computeAugments(PsiClass psiClass) {
+    augmentProvider.getAugments(psiClass, PsiField.class);
+    augmentProvider.getAugments(psiClass, PsiMethod.class);
+    augmentProvider.getAugments(psiClass, PsiClass.class);
+  }
+
+  private String createClassText(String annotation, int fieldCount) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(annotation).append('\n');
+    builder.append("public class Benchmark").append(classCounter++).append(" {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      switch (i % 4) {
+        case 0:
+          builder.append("  private int intField").append(i).append(";\n");
+          break;
+        case 1:
+          builder.append("  private boolean booleanField").append(i).append(";\n");
+          break;
+        case 2:
+          builder.append("  private String stringField").append(i).append(";\n");
+          break;
+        default:
+          builder.append("  private java.util.List<String> listField").append(i).append(";\n");
+      }
+    }
+    builder.append("}\n");
+    return builder.toString();
+  }
+
+  private static double calcHitRatio(double warmCalls) {
+    // every warm iteration requests each processor once, a call of the processor means a cache miss
+    return 1.0 - Math.min(1.0, warmCalls / WARM_ITERATIONS);
+  }
+
+  private static long getOrZero(Map<String, Long> map, String key) {
+    final Long value = map.get(key);
+    return null == value ? 0 : value;
+  }
+
+  private static long getAllocatedBytes() {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+
+  private static void appendLine(StringBuilder report, String annotation, int fieldCount, String processor,
+                                 long coldNanos, long warmNanos, long allocatedBytes, long processCalls, double hitRatio) {
+    report.append(annotation).append('\t')
+        .append(fieldCount).append('\t')
+        .append(processor).append('\t')
+        .append(coldNanos < 0 ? "" : String.format(Locale.ENGLISH, "%.3f", coldNanos / 1000000.0)).append('\t')
+        .append(warmNanos < 0 ? "" : String.format(Locale.ENGLISH, "%.3f", warmNanos / 1000.0)).append('\t')
+        .append(allocatedBytes < 0 ? "" : String.valueOf(allocatedBytes)).append('\t')
+        .append(processCalls).append('\t')
+        .append(String.format(Locale.ENGLISH, "%.3f", hitRatio)).append('\n');
+  }
+}
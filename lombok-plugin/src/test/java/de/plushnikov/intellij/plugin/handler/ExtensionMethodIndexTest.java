@@ -0,0 +1,43 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.psi.PsiClass;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class ExtensionMethodIndexTest extends LombokLightCodeInsightTestCase {
+
+  private static final String SCOPE_TEXT = "package de.test;\n" +
+      "import lombok.experimental.ExtensionMethod;\n" +
+      "public class Outer {\n" +
+      "  @ExtensionMethod(value = {java.util.Arrays.class, Outer.Extensions.class})\n" +
+      "  static class Scope {\n" +
+      "    private Class<?> type = Scope.class;\n" +
+      "    public String test() {\n" +
+      "      int[] intArray = {5, 3, 8, 2};\n" +
+      "      intArray.sort();\n" +
+      "      return \"hello\".toTitleCase();\n" +
+      "    }\n" +
+      "  }\n" +
+      "  static class Extensions {\n" +
+      "    public static String toTitleCase(Long in) { return null; }\n" +
+      "  }\n" +
+      "}\n";
+
+  public void testScopesCollectedWithLexer() throws Exception {
+    final Map<String, ExtensionMethodIndex.Scope> scopes = ExtensionMethodIndex.collectScopes(SCOPE_TEXT);
+
+    assertEquals(1, scopes.size());
+    final ExtensionMethodIndex.Scope scope = scopes.get("de.test.Outer.Scope");
+    assertNotNull(scope);
+    assertEquals(Arrays.asList("java.util.Arrays", "Outer.Extensions"), scope.getUtilClassNames());
+  }
+
+  public void testUtilClassesResolvedFromIndex() throws Exception {
+    myFixture.addFileToProject("de/test/Outer.java", SCOPE_TEXT);
+    final PsiClass scopeClass = myFixture.findClass("de.test.Outer.Scope");
+
+    assertEquals(2, ExtensionMethodUtil.getUtilClass(scopeClass).size());
+  }
+}
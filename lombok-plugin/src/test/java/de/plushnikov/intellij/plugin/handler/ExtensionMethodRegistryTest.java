@@ -0,0 +1,88 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+import org.jetbrains.annotations.NotNull;
+
+public class ExtensionMethodRegistryTest extends LombokLightCodeInsightTestCase {
+
+  public void testScopeRemovedWithClass() throws Exception {
+    final PsiClass scopeClass = myFixture.addClass("package b; @lombok.experimental.ExtensionMethod(String.class) public class RemovedScope {}");
+    final ExtensionMethodRegistry registry = ExtensionMethodRegistry.getInstance(getProject());
+    assertTrue(registry.getScopeNames().contains("b.RemovedScope"));
+
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        scopeClass.getContainingFile().delete();
+      }
+    });
+
+    assertFalse(registry.getScopeNames().contains("b.RemovedScope"));
+  }
+
+  public void testScopeFollowsAnnotationAndRename() throws Exception {
+    final PsiFile scopeFile = myFixture.addFileToProject("c/ChangedScope.java",
+        "package c; @lombok.experimental.ExtensionMethod(String.class) public class ChangedScope {}");
+    final ExtensionMethodRegistry registry = ExtensionMethodRegistry.getInstance(getProject());
+    assertTrue(registry.getScopeNames().contains("c.ChangedScope"));
+
+    setText(scopeFile, "package c; @lombok.experimental.ExtensionMethod(String.class) public class RenamedScope {}");
+    assertFalse(registry.getScopeNames().contains("c.ChangedScope"));
+    assertTrue(registry.getScopeNames().contains("c.RenamedScope"));
+
+    setText(scopeFile, "package c; public class RenamedScope {}");
+    assertFalse(registry.getScopeNames().contains("c.RenamedScope"));
+  }
+
+  public void testReceiverTypeOnlyKnownFromExpression() throws Exception {
+    final PsiClass nameClass = myFixture.addClass("package d; public class Name {}");
+    final PsiClass userClass = myFixture.addClass("package d; public class User { public Name getName() { return null; } }");
+    myFixture.addClass("package d; public class Names { public static String capitalize(Name name) { return null; } }");
+    myFixture.addClass("package d;\n" +
+        "@lombok.experimental.ExtensionMethod(Names.class)\n" +
+        "public class NameScope {\n" +
+        "  public String test(User user) { return user.getName().capitalize(); }\n" +
+        "}");
+
+    final ExtensionMethodRegistry registry = ExtensionMethodRegistry.getInstance(getProject());
+    assertTrue(registry.isExtensible(nameClass));
+    assertEquals(1, nameClass.findMethodsByName("capitalize", false).length);
+    assertFalse(registry.isExtensible(userClass));
+  }
+
+  public void testExtensibleClassesPrecomputedWithInheritors() throws Exception {
+    myFixture.addClass("package i; public class Shouts { public static String shout(CharSequence value) { return null; } }");
+    myFixture.addClass("package i; @lombok.experimental.ExtensionMethod(Shouts.class) public class ShoutScope {}");
+    myFixture.addClass("package i; public abstract class Text implements CharSequence {}");
+    myFixture.addClass("package i; public class Plain extends java.util.ArrayList<String> {}");
+
+    // answered by qualified names only, without PSI of the classes and resolving of their super types
+    final ExtensionMethodRegistry registry = ExtensionMethodRegistry.getInstance(getProject());
+    assertFalse(registry.isExtensible("i.Plain"));
+    assertFalse(registry.isExtensible("java.util.ArrayList"));
+    assertTrue(registry.isExtensible("java.lang.CharSequence"));
+    assertTrue(registry.isExtensible("java.lang.String"));
+    assertTrue(registry.isExtensible("i.Text"));
+
+    myFixture.addClass("package i; public abstract class LaterText extends Text {}");
+    assertTrue(registry.isExtensible("i.LaterText"));
+    assertEquals(1, myFixture.findClass("i.LaterText").findMethodsByName("shout", false).length);
+  }
+
+  private void setText(@NotNull PsiFile psiFile, @NotNull final String text) {
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(psiFile);
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        document.setText(text);
+        documentManager.commitDocument(document);
+      }
+    });
+  }
+}
@@ -0,0 +1,101 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ExtensionMethodUtilTest extends LombokLightCodeInsightTestCase {
+
+  public void testExtensionMethodTableGroupsByErasedFirstParameter() throws Exception {
+    final PsiClass utilClass = myFixture.addClass("package c; public class Extensions {\n" +
+        "  public static String first(String value) { return value; }\n" +
+        "  public static <T extends java.util.List<String>> T second(T value, int index) { return value; }\n" +
+        "  public static boolean third(java.util.List<Integer> value) { return true; }\n" +
+        "  static String hidden(String value) { return value; }\n" +
+        "  public static void none() {}\n" +
+        "}");
+
+    final Map<String, List<PsiMethod>> table = ExtensionMethodUtil.getExtensionMethodTable(utilClass);
+    assertEquals(2, table.size());
+    assertEquals(1, table.get("java.lang.String").size());
+    assertEquals(2, table.get("java.util.List").size());
+    assertSame(table, ExtensionMethodUtil.getExtensionMethodTable(utilClass));
+  }
+
+  public void testReceiverTypeNamesContainSuperTypes() throws Exception {
+    final PsiClass receiverClass = myFixture.addClass("package c; public class Receiver extends java.util.ArrayList<String> {}");
+
+    final Set<String> receiverTypeNames = ExtensionMethodUtil.getReceiverTypeNames(receiverClass);
+    assertEquals("c.Receiver", receiverTypeNames.iterator().next());
+    assertTrue(receiverTypeNames.contains("java.util.List"));
+    assertTrue(receiverTypeNames.contains("java.util.Collection"));
+    assertTrue(receiverTypeNames.contains("java.lang.Object"));
+  }
+
+  public void testUniversalReceiversDontMakeClassesExtensible() throws Exception {
+    myFixture.addClass("package h; public class Universal {\n" +
+        "  public static String describe(Object value) { return null; }\n" +
+        "  public static <T> T or(T value, T other) { return value; }\n" +
+        "  public static byte[] serialize(java.io.Serializable value) { return null; }\n" +
+        "}");
+    myFixture.addClass("package h; @lombok.experimental.ExtensionMethod(Universal.class) public class UniversalScope {}");
+    final PsiClass plainClass = myFixture.addClass("package h; public class Plain implements java.io.Serializable {}");
+
+    assertFalse(ExtensionMethodUtil.isExtensible(plainClass));
+    assertEquals(0, plainClass.findMethodsByName("describe", false).length);
+    assertEquals(0, plainClass.findMethodsByName("or", false).length);
+    assertEquals(0, plainClass.findMethodsByName("serialize", false).length);
+  }
+
+  public void testApplicabilityInfersTypeParametersFromReceiver() throws Exception {
+    final PsiClass utilClass = myFixture.addClass("package c; public class Sorting {\n" +
+        "  public static <T extends Comparable<? super T>> void sortAll(T[] array) {}\n" +
+        "  public static <T extends Number> T plain(T value) { return value; }\n" +
+        "}");
+    final PsiMethod sortAll = utilClass.findMethodsByName("sortAll", false)[0];
+    final PsiMethod plain = utilClass.findMethodsByName("plain", false)[0];
+    final PsiElementFactory factory = JavaPsiFacade.getElementFactory(getProject());
+
+    assertTrue(ExtensionMethodUtil.isApplicable(sortAll, factory.createTypeFromText("java.lang.String[]", utilClass)));
+    assertFalse(ExtensionMethodUtil.isApplicable(sortAll, factory.createTypeFromText("java.lang.Object[]", utilClass)));
+    assertTrue(ExtensionMethodUtil.isApplicable(plain, factory.createTypeFromText("java.lang.Integer", utilClass)));
+    assertTrue(ExtensionMethodUtil.isApplicable(plain, PsiType.INT));
+    assertFalse(ExtensionMethodUtil.isApplicable(plain, factory.createTypeFromText("java.lang.String", utilClass)));
+  }
+
+  public void testGenericReceiverGetsMethodsWithBoundedTypeParameters() throws Exception {
+    myFixture.addClass("package f; public class Sorting {\n" +
+        "  public static <T extends Comparable<? super T>> void sortAll(java.util.List<T> list) {}\n" +
+        "  public static <T extends Comparable<? super T>> void sortArray(T[] array) {}\n" +
+        "  public static String describe(Object value) { return null; }\n" +
+        "  public static int count(java.util.Collection<?> values) { return 0; }\n" +
+        "}");
+    final PsiClass boxClass = myFixture.addClass("package f; public class Box<E> extends java.util.ArrayList<E> {}");
+    myFixture.addClass("package f;\n" +
+        "@lombok.experimental.ExtensionMethod(Sorting.class)\n" +
+        "public class Scope {\n" +
+        "  public void test(Box<String> box, int[] values) {\n" +
+        "    box.sortAll();\n" +
+        "    values.sortArray();\n" +
+        "  }\n" +
+        "}");
+
+    assertEquals(1, boxClass.findMethodsByName("sortAll", false).length);
+    assertEquals(1, boxClass.findMethodsByName("count", false).length);
+    assertEquals(0, boxClass.findMethodsByName("sortArray", false).length);
+    assertEquals(0, boxClass.findMethodsByName("describe", false).length);
+
+    final PsiClass arrayClass = JavaPsiFacade.getElementFactory(getProject()).getArrayClass(LanguageLevel.HIGHEST);
+    assertEquals(1, arrayClass.findMethodsByName("sortArray", false).length);
+    assertEquals(0, arrayClass.findMethodsByName("describe", false).length);
+    assertEquals(0, arrayClass.findMethodsByName("count", false).length);
+  }
+}
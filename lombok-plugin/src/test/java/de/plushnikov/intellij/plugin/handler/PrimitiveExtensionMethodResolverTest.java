@@ -0,0 +1,106 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PrimitiveExtensionMethodResolverTest extends LombokLightCodeInsightTestCase {
+
+  private static final String UTIL_TEXT = "package e;\n" +
+      "public class IntExtensions {\n" +
+      "  public static long twice(long value) { return value * 2; }\n" +
+      "  public static String describe(Number value, String prefix) { return prefix + value; }\n" +
+      "  public static String other(String value) { return value; }\n" +
+      "}\n";
+
+  public void testCallOnPrimitiveResolvedToUtilityMethod() throws Exception {
+    myFixture.addClass(UTIL_TEXT);
+    myFixture.configureByText("Scope.java", "package e;\n" +
+        "@lombok.experimental.ExtensionMethod(IntExtensions.class)\n" +
+        "public class Scope {\n" +
+        "  public String test(int value) {\n" +
+        "    return value.descr<caret>ibe(\"#\");\n" +
+        "  }\n" +
+        "}\n");
+
+    final PsiMethod method = PrimitiveExtensionMethodResolver.resolve(getReferenceAtCaret());
+    assertNotNull(method);
+    assertEquals("describe", method.getName());
+    assertEquals("e.IntExtensions", method.getContainingClass().getQualifiedName());
+  }
+
+  public void testOverloadSelectedByArgumentTypes() throws Exception {
+    myFixture.addClass("package e;\n" +
+        "public class Formats {\n" +
+        "  public static String format(int value, String pattern) { return pattern; }\n" +
+        "  public static String format(int value, int width) { return null; }\n" +
+        "  public static String format(long value, long width) { return null; }\n" +
+        "}\n");
+    myFixture.configureByText("FormatScope.java", "package e;\n" +
+        "@lombok.experimental.ExtensionMethod(Formats.class)\n" +
+        "public class FormatScope {\n" +
+        "  public void test(int value) {\n" +
+        "    value.form<caret>at(\"#\");\n" +
+        "    value.format(3);\n" +
+        "    value.format(3L);\n" +
+        "  }\n" +
+        "}\n");
+
+    assertEquals("java.lang.String", getSecondParameterType(PrimitiveExtensionMethodResolver.resolve(getReferenceAtCaret())));
+
+    final PsiReferenceExpression[] references = PsiTreeUtil.collectElementsOfType(myFixture.getFile(), PsiReferenceExpression.class)
+        .toArray(new PsiReferenceExpression[0]);
+    final List<String> resolvedTypes = new ArrayList<String>();
+    for (PsiReferenceExpression reference : references) {
+      if ("format".equals(reference.getReferenceName())) {
+        resolvedTypes.add(getSecondParameterType(PrimitiveExtensionMethodResolver.resolve(reference)));
+      }
+    }
+    assertEquals(Arrays.asList("java.lang.String", "int", "long"), resolvedTypes);
+  }
+
+  public void testUniversalReceiverResolvedAtCallSite() throws Exception {
+    myFixture.addClass("package e;\n" +
+        "public class Objects {\n" +
+        "  public static <T> T or(T value, T other) { return value == null ? other : value; }\n" +
+        "}\n");
+    myFixture.configureByText("OrScope.java", "package e;\n" +
+        "@lombok.experimental.ExtensionMethod(Objects.class)\n" +
+        "public class OrScope {\n" +
+        "  public String test(String value) {\n" +
+        "    return value.o<caret>r(\"-\");\n" +
+        "  }\n" +
+        "}\n");
+
+    final PsiMethod method = PrimitiveExtensionMethodResolver.resolve(getReferenceAtCaret());
+    assertNotNull(method);
+    assertEquals("e.Objects", method.getContainingClass().getQualifiedName());
+    assertEquals(0, myFixture.findClass("java.lang.String").findMethodsByName("or", false).length);
+  }
+
+  public void testCallOutsideOfScopeNotResolved() throws Exception {
+    myFixture.addClass(UTIL_TEXT);
+    myFixture.configureByText("NoScope.java", "package e;\n" +
+        "public class NoScope {\n" +
+        "  public long test(int value) {\n" +
+        "    return value.twi<caret>ce();\n" +
+        "  }\n" +
+        "}\n");
+
+    assertNull(PrimitiveExtensionMethodResolver.resolve(getReferenceAtCaret()));
+  }
+
+  private static String getSecondParameterType(PsiMethod method) {
+    assertNotNull(method);
+    return method.getParameterList().getParameters()[1].getType().getCanonicalText();
+  }
+
+  private PsiReferenceExpression getReferenceAtCaret() {
+    return PsiTreeUtil.getParentOfType(myFixture.getFile().findElementAt(myFixture.getCaretOffset()), PsiReferenceExpression.class);
+  }
+}
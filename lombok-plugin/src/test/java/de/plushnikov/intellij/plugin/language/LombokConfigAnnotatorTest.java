@@ -0,0 +1,29 @@
+package de.plushnikov.intellij.plugin.language;
+
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+public class LombokConfigAnnotatorTest extends LombokLightCodeInsightTestCase {
+
+  public void testValidConfig() throws Exception {
+    myFixture.configureByText("lombok.config", "config.stopBubbling = true\n" +
+        "lombok.accessors.chain = FALSE\n" +
+        "lombok.accessors.prefix += m_\n" +
+        "lombok.val.flagUsage = WARNING\n" +
+        "lombok.var.flagUsage = WARNING\n" +
+        "lombok.utilityClass.flagUsage = ERROR\n" +
+        "lombok.onX.flagUsage = WARNING\n" +
+        "lombok.helper.flagUsage = WARNING\n" +
+        "lombok.equalsAndHashCode.callSuper = skip\n" +
+        "clear lombok.log.fieldName\n");
+    myFixture.checkHighlighting(true, false, true);
+  }
+
+  public void testInvalidConfig() throws Exception {
+    myFixture.configureByText("lombok.config",
+        "lombok.accessors.chain = <error descr=\"Invalid value, allowed values are: true, false\">yes</error>\n" +
+        "lombok.accessors.prefix<error descr=\"'lombok.accessors.prefix' is a list, use '+=' or '-='\"> = </error>m_\n" +
+        "lombok.log.fieldName<error descr=\"'lombok.log.fieldName' is not a list, use '='\"> += </error>LOG\n" +
+        "<warning descr=\"Unknown lombok configuration key\">lombok.unknown.key</warning> = value\n");
+    myFixture.checkHighlighting(true, false, true);
+  }
+}
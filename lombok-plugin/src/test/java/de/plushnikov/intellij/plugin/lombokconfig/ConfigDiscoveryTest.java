@@ -0,0 +1,153 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ConfigDiscoveryTest extends LombokLightCodeInsightTestCase {
+
+  public void testListOperationsAreMergedAlongDirectories() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.accessors.prefix += m_\nlombok.accessors.prefix += f_\n");
+    myFixture.addFileToProject("de/test/lombok.config", "lombok.accessors.prefix -= m_\nlombok.accessors.prefix += _\n");
+    final PsiClass psiClass = myFixture.addClass("package de.test; public class Prefixed {}");
+
+    assertEquals(Arrays.asList("f_", "_"), ConfigDiscovery.getInstance().getSnapshot(psiClass).getAccessorsPrefix());
+  }
+
+  public void testConfiguredPrefixUsedByAccessors() throws Exception {
+    myFixture.addFileToProject("de/prefix/lombok.config", "lombok.accessors.prefix += m_\n");
+    final PsiClass configuredClass = myFixture.addClass("package de.prefix; @lombok.Getter @lombok.experimental.Accessors " +
+        "public class Configured { private int m_value; }");
+    final PsiClass declaredClass = myFixture.addClass("package de.prefix; @lombok.Getter @lombok.experimental.Accessors(prefix = \"f\") " +
+        "public class Declared { private int fValue; private int m_other; }");
+
+    assertEquals(1, configuredClass.findMethodsByName("getValue", false).length);
+    assertEquals(1, declaredClass.findMethodsByName("getValue", false).length);
+    // field without the declared prefix gets no getter
+    assertEquals(0, declaredClass.findMethodsByName("getOther", false).length);
+  }
+
+  public void testAssignmentToListKeyIsIgnored() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.accessors.prefix += m_\n");
+    myFixture.addFileToProject("de/test/lombok.config", "lombok.accessors.prefix = f_\nlombok.accessors.prefix += _\n");
+    final PsiClass psiClass = myFixture.addClass("package de.test; public class Assigned {}");
+
+    assertEquals(Arrays.asList("m_", "_"), ConfigDiscovery.getInstance().getSnapshot(psiClass).getAccessorsPrefix());
+  }
+
+  public void testClearResetsInheritedValue() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.log.fieldName = LOG\nlombok.accessors.prefix += m_\n");
+    myFixture.addFileToProject("de/test/lombok.config", "clear lombok.log.fieldName\nclear lombok.accessors.prefix\n");
+    final PsiClass psiClass = myFixture.addClass("package de.test; public class Cleared {}");
+
+    final ConfigSnapshot snapshot = ConfigDiscovery.getInstance().getSnapshot(psiClass);
+    assertEquals(ConfigKeys.LOG_FIELDNAME.getConfigDefaultValue(), snapshot.getLogFieldName());
+    assertEquals(Collections.<String>emptyList(), snapshot.getAccessorsPrefix());
+  }
+
+  public void testStopBubbling() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.accessors.chain = true\nlombok.accessors.fluent = true\n");
+    myFixture.addFileToProject("de/test/lombok.config", "config.stopBubbling = true\nlombok.accessors.fluent = true\n");
+    final PsiClass psiClass = myFixture.addClass("package de.test.sub; public class Stopped {}");
+
+    final ConfigSnapshot snapshot = ConfigDiscovery.getInstance().getSnapshot(psiClass);
+    assertFalse(snapshot.isAccessorsChain());
+    assertTrue(snapshot.isAccessorsFluent());
+  }
+
+  public void testDirectoriesWithoutConfigShareParentConfiguration() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.accessors.chain = true\n");
+    final PsiClass firstClass = myFixture.addClass("package de.first; public class First {}");
+    final PsiClass secondClass = myFixture.addClass("package de.second; public class Second {}");
+
+    assertSame(ConfigDiscovery.getInstance().getSnapshot(firstClass), ConfigDiscovery.getInstance().getSnapshot(secondClass));
+  }
+
+  public void testConfigChangeAffectsOnlyDirectoriesBelow() throws Exception {
+    final PsiFile configFile = myFixture.addFileToProject("de/test/lombok.config", "lombok.accessors.chain = false\n");
+    final PsiClass changedClass = myFixture.addClass("package de.test.sub; public class Changed {}");
+    final PsiClass otherClass = myFixture.addClass("package de.other; public class Unchanged {}");
+
+    final LombokConfigModificationTracker configTracker = LombokConfigModificationTracker.getInstance(getProject());
+    final ModificationTracker changedTracker = configTracker.getTracker(changedClass);
+    final ModificationTracker otherTracker = configTracker.getTracker(otherClass);
+    assertFalse(ConfigDiscovery.getInstance().getSnapshot(changedClass).isAccessorsChain());
+
+    final long changedCount = changedTracker.getModificationCount();
+    final long otherCount = otherTracker.getModificationCount();
+
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(configFile);
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        document.setText("lombok.accessors.chain = true\n");
+        documentManager.commitDocument(document);
+      }
+    });
+
+    assertTrue(changedCount != changedTracker.getModificationCount());
+    assertEquals(otherCount, otherTracker.getModificationCount());
+    assertTrue(ConfigDiscovery.getInstance().getSnapshot(changedClass).isAccessorsChain());
+  }
+
+  public void testConfigChangeOnDiskIsTracked() throws Exception {
+    final VirtualFile configFile = myFixture.addFileToProject("de/disk/lombok.config", "lombok.accessors.chain = false\n").getVirtualFile();
+    final PsiClass psiClass = myFixture.addClass("package de.disk; public class OnDisk {}");
+    final ModificationTracker tracker = LombokConfigModificationTracker.getInstance(getProject()).getTracker(psiClass);
+    assertFalse(ConfigDiscovery.getInstance().getSnapshot(psiClass).isAccessorsChain());
+
+    final long count = tracker.getModificationCount();
+    new WriteCommandAction.Simple(getProject()) {
+      @Override
+      protected void run() throws Throwable {
+        VfsUtil.saveText(configFile, "lombok.accessors.chain = true\n");
+      }
+    }.execute().throwException();
+
+    assertTrue(count != tracker.getModificationCount());
+    assertTrue(ConfigDiscovery.getInstance().getSnapshot(psiClass).isAccessorsChain());
+  }
+
+  public void testConfigChangeInSiblingDirectoryKeepsGeneratedElements() throws Exception {
+    final PsiFile configFile = myFixture.addFileToProject("de/sibling/lombok.config", "lombok.accessors.chain = false\n");
+    final PsiClass psiClass = myFixture.addClass("package de.unrelated; @lombok.Getter public class Unrelated { private int value; }");
+
+    final PsiMethod getter = psiClass.findMethodsByName("getValue", false)[0];
+
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(configFile);
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        document.setText("lombok.accessors.chain = true\n");
+        documentManager.commitDocument(document);
+      }
+    });
+
+    assertSame(getter, psiClass.findMethodsByName("getValue", false)[0]);
+  }
+
+  public void testEffectiveConfigReportListsOnlyOverriddenKeys() throws Exception {
+    myFixture.addFileToProject("de/lombok.config", "lombok.accessors.chain = true\n");
+    myFixture.addFileToProject("de/test/lombok.config", "lombok.accessors.chain = true\nlombok.log.fieldName = LOG\n");
+    myFixture.addClass("package de.test.sub; public class Reported {}");
+
+    final String report = EffectiveConfigReport.createReport(getProject(), new EmptyProgressIndicator());
+    final String[] lines = report.split("\n");
+    assertEquals(3, lines.length);
+    assertTrue(lines[1], lines[1].endsWith("de\tlombok.accessors.chain\ttrue\tfalse"));
+    assertTrue(lines[2], lines[2].endsWith("test\tlombok.log.fieldName\tLOG\tlog"));
+  }
+}
@@ -0,0 +1,132 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.io.DataExternalizer;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigProperty;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class LombokConfigIndexTest extends LombokLightCodeInsightTestCase {
+
+  private static final int CONSTANT_KEY_VERSION = 4;
+  private static final String CONSTANT_KEY = "config";
+
+  private static final String CONFIG_TEXT = "lombok.accessors.chain = true\n" +
+      "lombok.accessors.prefix += m_\n" +
+      "lombok.accessors.prefix -= f\n" +
+      "clear lombok.log.fieldName\n";
+
+  private static final List<ConfigEntry> CONFIG_ENTRIES = Arrays.asList(
+      new ConfigEntry(ConfigEntry.Operation.SET, "lombok.accessors.chain", "true"),
+      new ConfigEntry(ConfigEntry.Operation.ADD, "lombok.accessors.prefix", "m_"),
+      new ConfigEntry(ConfigEntry.Operation.REMOVE, "lombok.accessors.prefix", "f"),
+      new ConfigEntry(ConfigEntry.Operation.CLEAR, "lombok.log.fieldName", ""));
+
+  public void testEntriesReadBackPerDirectory() throws Exception {
+    final PsiFile firstFile = myFixture.addFileToProject("de/first/lombok.config", CONFIG_TEXT);
+    final PsiFile secondFile = myFixture.addFileToProject("de/second/lombok.config", "lombok.accessors.fluent = true\n");
+    final VirtualFile parentDirectory = firstFile.getVirtualFile().getParent().getParent();
+
+    assertEquals(CONFIG_ENTRIES, LombokConfigIndex.readEntries(getProject(), firstFile.getVirtualFile().getParent()));
+    assertEquals(Arrays.asList(new ConfigEntry(ConfigEntry.Operation.SET, "lombok.accessors.fluent", "true")),
+        LombokConfigIndex.readEntries(getProject(), secondFile.getVirtualFile().getParent()));
+    assertEquals(Collections.<ConfigEntry>emptyList(), LombokConfigIndex.readEntries(getProject(), parentDirectory));
+  }
+
+  public void testWholeFileIsIndexedForDirectory() throws Exception {
+    final PsiFile configFile = myFixture.addFileToProject("de/test/lombok.config", CONFIG_TEXT);
+    final VirtualFile directory = configFile.getVirtualFile().getParent();
+
+    final List<List<ConfigEntry>> values = FileBasedIndex.getInstance().getValues(LombokConfigIndex.NAME,
+        directory.getPath(), GlobalSearchScope.allScope(getProject()));
+    assertEquals(1, values.size());
+    assertEquals(CONFIG_ENTRIES, values.get(0));
+    assertEquals(CONFIG_ENTRIES, LombokConfigIndex.readEntries(getProject(), directory));
+  }
+
+  public void testVersionBumpedForDirectoryKeys() throws Exception {
+    final PsiFile configFile = myFixture.addFileToProject("de/test/lombok.config", CONFIG_TEXT);
+    final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+    final GlobalSearchScope fileScope = GlobalSearchScope.fileScope(configFile);
+
+    // data of the previous version was stored under one constant key for all files, it has to be rebuilt
+    assertTrue(new LombokConfigIndex().getVersion() > CONSTANT_KEY_VERSION);
+    assertEmpty(fileBasedIndex.getValues(LombokConfigIndex.NAME, CONSTANT_KEY, fileScope));
+    assertEquals(Collections.singletonList(CONFIG_ENTRIES),
+        fileBasedIndex.getValues(LombokConfigIndex.NAME, configFile.getVirtualFile().getParent().getPath(), fileScope));
+  }
+
+  public void testEntriesFollowRenamedDirectory() throws Exception {
+    final PsiFile configFile = myFixture.addFileToProject("de/test/lombok.config", CONFIG_TEXT);
+    final VirtualFile directory = configFile.getVirtualFile().getParent();
+
+    new WriteCommandAction.Simple(getProject()) {
+      @Override
+      protected void run() throws Throwable {
+        directory.rename(this, "moved");
+      }
+    }.execute().throwException();
+
+    assertEquals("moved", directory.getName());
+    assertEquals(CONFIG_ENTRIES, LombokConfigIndex.readEntries(getProject(), directory));
+  }
+
+  public void testLexerBasedEntries() throws Exception {
+    assertEquals(CONFIG_ENTRIES, LombokConfigIndex.collectEntries(CONFIG_TEXT));
+    assertEquals(Arrays.asList(new ConfigEntry(ConfigEntry.Operation.SET, "lombok.log.fieldName", "LOG")),
+        LombokConfigIndex.collectEntries("# comment\nlombok.getter.noIsPrefix =\n  lombok.log.fieldName=LOG\n"));
+  }
+
+  public void testValueExternalizerRoundTrip() throws Exception {
+    final DataExternalizer<List<ConfigEntry>> externalizer = new LombokConfigIndex().getValueExternalizer();
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    externalizer.save(new DataOutputStream(outputStream), CONFIG_ENTRIES);
+    final List<ConfigEntry> readEntries = externalizer.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+
+    assertEquals(CONFIG_ENTRIES, readEntries);
+  }
+
+  public void testSnapshotResolvedFromIndex() throws Exception {
+    myFixture.addFileToProject("de/test/lombok.config", CONFIG_TEXT);
+    final PsiClass configuredClass = myFixture.addClass("package de.test.sub; public class Configured {}");
+    final PsiClass otherClass = myFixture.addClass("package de.other; public class Other {}");
+
+    assertTrue(ConfigDiscovery.getInstance().getSnapshot(configuredClass).isAccessorsChain());
+    assertFalse(ConfigDiscovery.getInstance().getSnapshot(otherClass).isAccessorsChain());
+  }
+
+  public void testKeyOffsetsCollectedWithLexer() throws Exception {
+    final Map<String, List<Integer>> keyOffsets = LombokConfigKeyIndex.collectKeyOffsets(CONFIG_TEXT);
+
+    assertEquals(Arrays.asList(0), keyOffsets.get("lombok.accessors.chain"));
+    assertEquals(Arrays.asList(CONFIG_TEXT.indexOf("lombok.accessors.prefix +="), CONFIG_TEXT.indexOf("lombok.accessors.prefix -=")),
+        keyOffsets.get("lombok.accessors.prefix"));
+    assertFalse(keyOffsets.containsKey("lombok.log.fieldName"));
+  }
+
+  public void testFindPropertiesByKey() throws Exception {
+    myFixture.addFileToProject("de/test/lombok.config", CONFIG_TEXT);
+    myFixture.addFileToProject("de/other/lombok.config", "lombok.accessors.chain = false\n");
+
+    final List<LombokConfigProperty> properties = LombokConfigUtil.findProperties(getProject(), "lombok.accessors.prefix");
+    assertEquals(2, properties.size());
+    for (LombokConfigProperty property : properties) {
+      assertEquals("lombok.accessors.prefix", property.getKey());
+    }
+    assertEquals(2, LombokConfigUtil.findProperties(getProject(), "lombok.accessors.chain").size());
+  }
+}
@@ -0,0 +1,83 @@
+package de.plushnikov.intellij.plugin.processor.field;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+import org.jetbrains.annotations.NotNull;
+
+public class FieldElementCacheTest extends LombokLightCodeInsightTestCase {
+
+  private static final String CLASS_TEXT = "package g;\n" +
+      "public class Holder {\n" +
+      "  @lombok.Getter @lombok.Setter private int value;\n" +
+      "  public void touch() {}\n" +
+      "}\n";
+
+  public void testAccessorsReusedWhileFieldUnchanged() throws Exception {
+    final PsiFile psiFile = myFixture.addFileToProject("g/Holder.java", CLASS_TEXT);
+    final PsiMethod getter = findMethod("getValue");
+    final PsiMethod setter = findMethod("setValue");
+
+    replace(psiFile, "public void touch() {}", "public void touch() {}\n  public int other() { return 0; }");
+
+    assertEquals(1, myFixture.findClass("g.Holder").findMethodsByName("other", false).length);
+    assertSame(getter, findMethod("getValue"));
+    assertSame(setter, findMethod("setValue"));
+  }
+
+  public void testAccessorsRebuiltAfterFieldTypeChange() throws Exception {
+    final PsiFile psiFile = myFixture.addFileToProject("g/Holder.java", CLASS_TEXT);
+    final PsiMethod getter = findMethod("getValue");
+    final PsiMethod setter = findMethod("setValue");
+
+    replace(psiFile, "private int value", "private long value");
+
+    final PsiMethod newGetter = findMethod("getValue");
+    final PsiMethod newSetter = findMethod("setValue");
+    assertNotSame(getter, newGetter);
+    assertNotSame(setter, newSetter);
+    assertEquals(PsiType.LONG, newGetter.getReturnType());
+    assertEquals(PsiType.LONG, newSetter.getParameterList().getParameters()[0].getType());
+  }
+
+  public void testAccessorsRebuiltAfterAnnotationChange() throws Exception {
+    final PsiFile psiFile = myFixture.addFileToProject("g/Holder.java", CLASS_TEXT);
+    final PsiMethod getter = findMethod("getValue");
+    final PsiMethod setter = findMethod("setValue");
+
+    replace(psiFile, "@lombok.Getter @lombok.Setter", "@lombok.Getter(lombok.AccessLevel.PROTECTED) @lombok.Setter(lombok.AccessLevel.PACKAGE)");
+
+    final PsiMethod newGetter = findMethod("getValue");
+    final PsiMethod newSetter = findMethod("setValue");
+    assertNotSame(getter, newGetter);
+    assertNotSame(setter, newSetter);
+    assertTrue(newGetter.hasModifierProperty(PsiModifier.PROTECTED));
+    assertFalse(newSetter.hasModifierProperty(PsiModifier.PUBLIC));
+  }
+
+  @NotNull
+  private PsiMethod findMethod(@NotNull String name) {
+    final PsiMethod[] methods = myFixture.findClass("g.Holder").findMethodsByName(name, false);
+    assertEquals(1, methods.length);
+    return methods[0];
+  }
+
+  private void replace(@NotNull PsiFile psiFile, @NotNull final String oldText, @NotNull final String newText) {
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(psiFile);
+    final int offset = document.getText().indexOf(oldText);
+    assertTrue(offset >= 0);
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        document.replaceString(offset, offset + oldText.length(), newText);
+        documentManager.commitDocument(document);
+      }
+    });
+  }
+}
@@ -0,0 +1,74 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class LombokAnnotationIndexTest extends LombokLightCodeInsightTestCase {
+
+  private static final List<String> ANNOTATION_NAMES = Arrays.asList("Data", "Getter", "Setter", "Builder", "Value");
+
+  private static final String FILE_TEXT = "package de.test;\n" +
+      "// @Data in a comment\n" +
+      "@lombok.Getter\n" +
+      "public class Annotated {\n" +
+      "  private String text = \"@Value\";\n" +
+      "  /** @Data in javadoc */\n" +
+      "  @lombok.Builder @Deprecated\n" +
+      "  static class Nested {\n" +
+      "    @Setter private int value;\n" +
+      "  }\n" +
+      "}\n" +
+      "class Plain {\n" +
+      "  /* @Value */\n" +
+      "  @Override public String toString() { return \"@Data\"; }\n" +
+      "}\n";
+
+  public void testAnnotationNamesCollectedPerTopLevelClass() throws Exception {
+    final Map<String, Set<String>> annotationNames = LombokAnnotationIndex.collectAnnotationNames(FILE_TEXT, ANNOTATION_NAMES);
+
+    assertEquals(new HashSet<String>(Arrays.asList("de.test.Annotated", "de.test.Plain")), annotationNames.keySet());
+    // qualified names are reduced to simple names, annotations of nested classes and their members belong to the top level class
+    assertEquals(new HashSet<String>(Arrays.asList("Getter", "Builder", "Setter")), annotationNames.get("de.test.Annotated"));
+    // names in comments and string literals are ignored
+    assertEquals(Collections.<String>emptySet(), annotationNames.get("de.test.Plain"));
+  }
+
+  public void testClassWithoutPackage() throws Exception {
+    final Map<String, Set<String>> annotationNames = LombokAnnotationIndex.collectAnnotationNames(
+        "@lombok.Value(staticConstructor = \"of\") public class Root {}", ANNOTATION_NAMES);
+
+    assertEquals(Collections.singletonMap("Root", Collections.singleton("Value")), annotationNames);
+  }
+
+  public void testAnnotationFreeDecisionFollowsFileChanges() throws Exception {
+    final PsiFile psiFile = myFixture.addFileToProject("de/test/Changed.java", "package de.test;\npublic class Changed { class Inner {} }\n");
+    final PsiClass psiClass = myFixture.findClass("de.test.Changed");
+    assertTrue(LombokAnnotationIndex.isAnnotationFree(psiClass));
+    assertTrue(LombokAnnotationIndex.isAnnotationFree(psiClass.getInnerClasses()[0]));
+
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(psiFile);
+    WriteCommandAction.runWriteCommandAction(getProject(), new Runnable() {
+      @Override
+      public void run() {
+        document.setText("package de.test;\npublic class Changed { @lombok.Getter class Inner { int value; } }\n");
+        documentManager.commitDocument(document);
+      }
+    });
+
+    final PsiClass changedClass = myFixture.findClass("de.test.Changed");
+    assertFalse(LombokAnnotationIndex.isAnnotationFree(changedClass));
+    assertFalse(LombokAnnotationIndex.isAnnotationFree(changedClass.getInnerClasses()[0]));
+  }
+}
@@ -0,0 +1,38 @@
+package de.plushnikov.intellij.plugin.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LombokMetricsTest {
+
+  @After
+  public void tearDown() throws Exception {
+    LombokMetrics.setEnabled(false);
+    LombokMetrics.reset();
+  }
+
+  @Test
+  public void testDisabledRecordsNothing() throws Exception {
+    LombokMetrics.setEnabled(false);
+    final long start = LombokMetrics.start();
+    LombokMetrics.stop(LombokMetrics.PROCESS, this, start, 5);
+
+    assertThat(start, is(0L));
+    assertThat(LombokMetrics.createReport(), is("operation\tcount\ttotal_ms\tp99_ms\telements\n"));
+  }
+
+  @Test
+  public void testEnabledRecordsCountsAndElements() throws Exception {
+    LombokMetrics.setEnabled(true);
+    for (int i = 0; i < 3; i++) {
+      LombokMetrics.stop(LombokMetrics.PROCESS, this, LombokMetrics.start(), 2);
+    }
+
+    assertThat(LombokMetrics.createReport(), containsString("process:LombokMetricsTest\t3\t"));
+    assertThat(LombokMetrics.createReport(), containsString("\t6\n"));
+  }
+}